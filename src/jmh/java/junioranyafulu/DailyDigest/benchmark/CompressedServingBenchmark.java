@@ -0,0 +1,99 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import junioranyafulu.DailyDigest.domain.Digest;
+import junioranyafulu.DailyDigest.domain.DigestStatus;
+import junioranyafulu.DailyDigest.service.HtmlRenderingService;
+import junioranyafulu.DailyDigest.service.RankingService;
+import junioranyafulu.DailyDigest.service.RenderedEdition;
+import junioranyafulu.DailyDigest.service.ScoringModels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cost of producing the response body of one rendered edition: gzip applied per request
+ * against the bytes pre-compressed at generation time. The payload is a full render of the
+ * {@code all} edition at the default top-k. This isolates the body work only; request
+ * handling, ETag checks and the network are measured end to end by {@link LoadHarness}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class CompressedServingBenchmark {
+
+    private static final int TOP_K = 20;
+
+    private String html;
+    private RenderedEdition rendered;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        Digest digest = Digest.builder()
+                .id(1L)
+                .date(LocalDate.of(2025, 6, 1))
+                .title("Daily Entertainment Digest - 2025-06-01")
+                .summary(Fixtures.summaryMarkdown(20))
+                .status(DigestStatus.COMPLETED)
+                .createdAt(LocalDateTime.of(2025, 6, 1, 7, 0))
+                .updatedAt(LocalDateTime.of(2025, 6, 1, 7, 0))
+                .build();
+        RankingService rankingService = new RankingService(ScoringModels.defaults(), TOP_K);
+        html = new HtmlRenderingService(templateEngine).renderDigestToHtml(digest,
+                rankingService.rankGames(Fixtures.games(TOP_K)),
+                rankingService.rankMovies(Fixtures.movies(TOP_K)),
+                rankingService.rankTVShows(Fixtures.tvShows(TOP_K)),
+                "all");
+        rendered = RenderedEdition.of(html);
+    }
+
+    @Benchmark
+    public byte[] onTheFlyGzip() throws IOException {
+        byte[] identity = html.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(identity);
+        }
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] preCompressedGzip() {
+        return rendered.gzip();
+    }
+
+    @Benchmark
+    public byte[] uncompressed() {
+        return rendered.identity();
+    }
+}
@@ -0,0 +1,87 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import junioranyafulu.DailyDigest.domain.Digest;
+import junioranyafulu.DailyDigest.domain.DigestStatus;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGame;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow;
+import junioranyafulu.DailyDigest.service.HtmlRenderingService;
+import junioranyafulu.DailyDigest.service.RankingService;
+import junioranyafulu.DailyDigest.service.ScoringModels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full Thymeleaf render of one digest edition, including the CommonMark pass over the
+ * summary, with ranked lists of the given size. The template engine is configured like
+ * Spring Boot's (SpEL, {@code classpath:templates/}, template cache on).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DigestRenderBenchmark {
+
+    @Param({"20", "1000", "100000"})
+    public int items;
+
+    @Param({"all", "gaming", "movies", "tv"})
+    public String edition;
+
+    private HtmlRenderingService htmlRenderingService;
+    private Digest digest;
+    private List<RawgGame> games;
+    private List<TmdbMovie> movies;
+    private List<TmdbTVShow> tvShows;
+
+    @Setup
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+        resolver.setCacheable(true);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        htmlRenderingService = new HtmlRenderingService(templateEngine);
+
+        digest = Digest.builder()
+                .id(1L)
+                .date(LocalDate.of(2025, 6, 1))
+                .title("Daily Entertainment Digest - 2025-06-01")
+                .summary(Fixtures.summaryMarkdown(20))
+                .status(DigestStatus.COMPLETED)
+                .createdAt(LocalDateTime.of(2025, 6, 1, 7, 0))
+                .updatedAt(LocalDateTime.of(2025, 6, 1, 7, 0))
+                .build();
+        RankingService rankingService = new RankingService(ScoringModels.defaults(), items);
+        games = rankingService.rankGames(Fixtures.games(items));
+        movies = rankingService.rankMovies(Fixtures.movies(items));
+        tvShows = rankingService.rankTVShows(Fixtures.tvShows(items));
+    }
+
+    @Benchmark
+    public String renderEdition() {
+        return htmlRenderingService.renderDigestToHtml(digest, games, movies, tvShows, edition);
+    }
+}
@@ -0,0 +1,260 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import junioranyafulu.DailyDigest.dto.Article;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGame;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovieResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic payloads shaped like the RAWG {@code /games} and TMDb {@code /trending}
+ * responses, including the nested fields the digest never reads, so decode benchmarks pay
+ * the same skipping and binding cost as production traffic. The typed helpers bind those
+ * payloads the way the application does, for benchmarks of the stages after decoding.
+ */
+public final class Fixtures {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    // Spring Boot's ObjectMapper ignores unknown properties; mirror that here
+    private static final ObjectMapper BINDER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final String[] WORDS = {"shadow", "legend", "galaxy", "kingdom", "echo", "iron", "night",
+            "storm", "crown", "last", "rise", "empire", "signal", "frontier", "ember", "horizon"};
+
+    private Fixtures() {
+    }
+
+    public static byte[] rawgGamesJson(int count) {
+        Random random = new Random(42);
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("count", count * 50);
+        root.put("next", "https://api.rawg.io/api/games?page=2");
+        root.putNull("previous");
+        ArrayNode results = root.putArray("results");
+        for (int i = 0; i < count; i++) {
+            ObjectNode game = results.addObject();
+            game.put("id", 100_000 + i);
+            game.put("slug", "game-" + i);
+            game.put("name", title(random, 3));
+            game.put("released", date(random));
+            game.put("tba", false);
+            game.put("background_image", "https://media.rawg.io/media/games/" + i + ".jpg");
+            game.put("rating", Math.round(random.nextDouble() * 500) / 100.0);
+            game.put("rating_top", 5);
+            ArrayNode ratings = game.putArray("ratings");
+            for (int r = 0; r < 4; r++) {
+                ratings.addObject().put("id", 5 - r).put("title", WORDS[r]).put("count", random.nextInt(900))
+                        .put("percent", random.nextDouble() * 100);
+            }
+            game.put("ratings_count", random.nextInt(5000));
+            game.put("reviews_text_count", random.nextInt(50));
+            game.put("added", random.nextInt(20_000));
+            game.put("metacritic", random.nextInt(10) == 0 ? null : 50 + random.nextInt(50));
+            game.put("playtime", random.nextInt(80));
+            game.put("suggestions_count", random.nextInt(900));
+            game.put("updated", date(random) + "T10:00:00");
+            game.put("reviews_count", random.nextInt(5000));
+            ArrayNode platforms = game.putArray("platforms");
+            for (int p = 0; p < 3; p++) {
+                ObjectNode platform = platforms.addObject();
+                platform.putObject("platform").put("id", p + 1).put("name", "Platform " + p).put("slug", "p" + p);
+                platform.put("released_at", date(random));
+                platform.putObject("requirements_en").put("minimum", text(random, 30))
+                        .put("recommended", text(random, 30));
+            }
+            ArrayNode stores = game.putArray("stores");
+            for (int s = 0; s < 3; s++) {
+                stores.addObject().put("id", s).putObject("store").put("id", s).put("name", "Store " + s)
+                        .put("slug", "store-" + s);
+            }
+            ArrayNode genres = game.putArray("genres");
+            for (int g = 0; g < 2; g++) {
+                genres.addObject().put("id", g).put("name", WORDS[random.nextInt(WORDS.length)]).put("slug", "g" + g);
+            }
+            ArrayNode tags = game.putArray("tags");
+            for (int t = 0; t < 12; t++) {
+                tags.addObject().put("id", t).put("name", WORDS[random.nextInt(WORDS.length)]).put("slug", "t" + t)
+                        .put("language", "eng").put("games_count", random.nextInt(100_000))
+                        .put("image_background", "https://media.rawg.io/media/tags/" + t + ".jpg");
+            }
+            game.putObject("esrb_rating").put("id", 4).put("name", "Mature").put("slug", "mature");
+            ArrayNode screenshots = game.putArray("short_screenshots");
+            for (int s = 0; s < 6; s++) {
+                screenshots.addObject().put("id", s).put("image", "https://media.rawg.io/media/screenshots/" + i
+                        + "-" + s + ".jpg");
+            }
+        }
+        return bytes(root);
+    }
+
+    public static byte[] tmdbMoviesJson(int count) {
+        Random random = new Random(7);
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("page", 1);
+        ArrayNode results = root.putArray("results");
+        for (int i = 0; i < count; i++) {
+            ObjectNode movie = results.addObject();
+            movie.put("backdrop_path", "/backdrop" + i + ".jpg");
+            movie.put("id", 500_000 + i);
+            movie.put("title", title(random, 2));
+            movie.put("original_title", title(random, 2));
+            movie.put("overview", text(random, 60));
+            movie.put("poster_path", "/poster" + i + ".jpg");
+            movie.put("media_type", "movie");
+            movie.put("adult", false);
+            movie.put("original_language", "en");
+            ArrayNode genreIds = movie.putArray("genre_ids");
+            genreIds.add(28).add(12).add(878);
+            movie.put("popularity", random.nextDouble() * 1000);
+            movie.put("release_date", date(random));
+            movie.put("video", false);
+            movie.put("vote_average", Math.round(random.nextDouble() * 1000) / 100.0);
+            movie.put("vote_count", random.nextInt(20_000));
+        }
+        root.put("total_pages", 500);
+        root.put("total_results", 10_000);
+        return bytes(root);
+    }
+
+    public static byte[] tmdbTVJson(int count) {
+        Random random = new Random(11);
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("page", 1);
+        ArrayNode results = root.putArray("results");
+        for (int i = 0; i < count; i++) {
+            ObjectNode show = results.addObject();
+            show.put("backdrop_path", "/backdrop" + i + ".jpg");
+            show.put("id", 900_000 + i);
+            show.put("name", title(random, 2));
+            show.put("original_name", title(random, 2));
+            show.put("overview", text(random, 60));
+            show.put("poster_path", "/poster" + i + ".jpg");
+            show.put("media_type", "tv");
+            show.put("adult", false);
+            show.put("original_language", "en");
+            show.putArray("genre_ids").add(18).add(10765);
+            show.put("popularity", random.nextDouble() * 1000);
+            show.put("first_air_date", date(random));
+            show.put("vote_average", Math.round(random.nextDouble() * 1000) / 100.0);
+            show.put("vote_count", random.nextInt(20_000));
+            show.putArray("origin_country").add("US");
+        }
+        root.put("total_pages", 500);
+        root.put("total_results", 10_000);
+        return bytes(root);
+    }
+
+    public static List<RawgGame> games(int count) {
+        return read(rawgGamesJson(count), RawgGamesResponse.class).getResults();
+    }
+
+    public static List<TmdbMovie> movies(int count) {
+        return read(tmdbMoviesJson(count), TmdbMovieResponse.class).getResults();
+    }
+
+    public static List<TmdbTVShow> tvShows(int count) {
+        return read(tmdbTVJson(count), TmdbTVResponse.class).getResults();
+    }
+
+    /**
+     * NewsAPI-style articles, roughly a third each about games, movies and TV.
+     */
+    public static List<Article> articles(int count) {
+        return articles(count, 13);
+    }
+
+    /**
+     * Like {@link #articles(int)}, with a different article set for every seed.
+     */
+    public static List<Article> articles(int count, long seed) {
+        Random random = new Random(seed);
+        String[] topics = {"game", "movie", "series"};
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String topic = topics[i % topics.length];
+            articles.add(Article.builder()
+                    .author("Staff " + random.nextInt(20))
+                    .title(title(random, 4) + " " + topic + " announced - Outlet " + random.nextInt(10))
+                    .description("The " + topic + " " + text(random, 30) + " " + text(random, 12))
+                    .url("https://news.example.com/" + i)
+                    .publishedAt(date(random) + "T08:00:00Z")
+                    .build());
+        }
+        return articles;
+    }
+
+    /**
+     * A digest summary in the layout the LLM writes, with {@code bullets} bullets spread over
+     * the section headings.
+     */
+    public static String summaryMarkdown(int bullets) {
+        Random random = new Random(17);
+        String[] headings = {"## Gaming News", "## Anticipated Game Trailers / Releases", "## Movie News",
+                "## Anticipated Movies / Trailers", "## TV / Streaming News", "## Anticipated Series / Trailers",
+                "## Worth Your Time Today"};
+        StringBuilder summary = new StringBuilder();
+        for (int h = 0; h < headings.length; h++) {
+            summary.append(headings[h]).append("\n");
+            int inSection = bullets / headings.length + (h < bullets % headings.length ? 1 : 0);
+            for (int b = 0; b < inSection; b++) {
+                summary.append("- **").append(title(random, 2)).append("**: ").append(text(random, 25))
+                        .append(" ").append(text(random, 10)).append("\n");
+            }
+            summary.append("\n");
+        }
+        return summary.toString();
+    }
+
+    static String title(Random random, int words) {
+        StringBuilder title = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (w > 0) {
+                title.append(' ');
+            }
+            title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+        }
+        return title.toString();
+    }
+
+    static String text(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.append('.').toString();
+    }
+
+    static String date(Random random) {
+        return LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365)).toString();
+    }
+
+    private static <T> T read(byte[] json, Class<T> type) {
+        try {
+            return BINDER.readValue(json, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] bytes(ObjectNode root) {
+        return root.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,302 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import junioranyafulu.DailyDigest.DailyDigestApplication;
+import junioranyafulu.DailyDigest.service.SummaryStats;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * End-to-end load harness: boots the application against {@link UpstreamStubs}, then runs
+ * rounds of concurrent generations while readers hammer the digest endpoints, and prints
+ * p50/p99/p999 latencies per endpoint and per summary stage. Settings are {@code key=value}
+ * arguments (or {@code -Dharness.<key>} properties):
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=junioranyafulu.DailyDigest.benchmark.LoadHarness \
+ *     -Djmh.args="generations=4 rounds=5 readers=32 latency-ms=80 jitter-ms=40 error-rate=0.02"
+ * </pre>
+ *
+ * Per-upstream overrides use the upstream as prefix ({@code ollama.latency-ms=0},
+ * {@code tmdb.error-rate=0.1}). Source caches are cleared before every round unless
+ * {@code cold=false}, so each generation fetches from the stubs.
+ */
+public final class LoadHarness {
+
+    private static final List<String> READ_ENDPOINTS = List.of(
+            "/api/v1/digest/latest/meta",
+            "/api/v1/digest/latest",
+            "/api/v1/digest/latest/html?type=all",
+            "/api/v1/digest/latest/html?type=gaming",
+            "/api/v1/digest/latest/fields/summary");
+
+    private final Map<String, String> settings;
+    private final Map<String, Latencies> latencies = new ConcurrentHashMap<>();
+
+    private LoadHarness(Map<String, String> settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> settings = new HashMap<>();
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith("harness.")) {
+                settings.put(key.toString().substring("harness.".length()), value.toString());
+            }
+        });
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) {
+                settings.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+        new LoadHarness(settings).run();
+    }
+
+    private void run() throws Exception {
+        Map<String, UpstreamStubs.Fault> faults = new HashMap<>();
+        for (String upstream : List.of(UpstreamStubs.NEWSAPI, UpstreamStubs.TMDB, UpstreamStubs.RAWG,
+                UpstreamStubs.OLLAMA)) {
+            faults.put(upstream, new UpstreamStubs.Fault(
+                    Duration.ofMillis(longSetting(upstream + ".latency-ms", longSetting("latency-ms", 50))),
+                    Duration.ofMillis(longSetting(upstream + ".jitter-ms", longSetting("jitter-ms", 25))),
+                    doubleSetting(upstream + ".error-rate", doubleSetting("error-rate", 0))));
+        }
+        String recordings = settings.get("recordings");
+
+        try (UpstreamStubs stubs = new UpstreamStubs(faults, (int) longSetting("items", 20),
+                recordings != null ? Path.of(recordings) : null,
+                Duration.ofMillis(longSetting("ollama.first-token-ms", 300)),
+                doubleSetting("ollama.tokens-per-second", 200));
+                ConfigurableApplicationContext app = new SpringApplicationBuilder(DailyDigestApplication.class)
+                        .properties(applicationProperties(stubs))
+                        .run()) {
+            String baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            drive(app, baseUrl);
+            report(app, stubs);
+        }
+    }
+
+    private Map<String, Object> applicationProperties(UpstreamStubs stubs) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("api.newsapi.base-url", stubs.baseUrl(UpstreamStubs.NEWSAPI));
+        properties.put("api.tmdb.base-url", stubs.baseUrl(UpstreamStubs.TMDB));
+        properties.put("api.rawg.base-url", stubs.baseUrl(UpstreamStubs.RAWG));
+        properties.put("spring.ai.ollama.base-url", stubs.baseUrl(UpstreamStubs.OLLAMA));
+        properties.put("api.newsapi.page-size", longSetting("items", 20));
+        properties.put("api.rawg.page-size", longSetting("items", 20));
+        // The stubs speak plain HTTP/1.1
+        properties.put("api.http.http2", false);
+        properties.put("digest.scheduling.enabled", false);
+        properties.put("digest.ollama.warmup.enabled", false);
+        properties.put("digest.summary.strategy", settings.getOrDefault("strategy", "single"));
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.h2.console.enabled", false);
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadharness;DB_CLOSE_DELAY=-1");
+        properties.put("logging.level.root", "WARN");
+        return properties;
+    }
+
+    private void drive(ConfigurableApplicationContext app, String baseUrl) throws Exception {
+        int generations = (int) longSetting("generations", 4);
+        int rounds = (int) longSetting("rounds", 3);
+        int readers = (int) longSetting("readers", 16);
+        boolean cold = Boolean.parseBoolean(settings.getOrDefault("cold", "true"));
+        String generatePath = "reactive".equals(settings.get("pipeline"))
+                ? "/api/v1/digest/generate/reactive"
+                : "/api/v1/digest/generate";
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        CacheManager cacheManager = app.getBean(CacheManager.class);
+        SummaryStats summaryStats = app.getBean(SummaryStats.class);
+        Set<SummaryStats.Run> seenRuns = ConcurrentHashMap.newKeySet();
+
+        // One unmeasured generation so readers have a digest and the JIT has seen the pipeline
+        System.out.println("Warm-up generation...");
+        send(client, baseUrl, "POST", generatePath, null);
+        seenRuns.addAll(summaryStats.lastRuns().values());
+
+        AtomicBoolean generating = new AtomicBoolean(true);
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int r = 0; r < readers; r++) {
+                int offset = r;
+                threads.submit(() -> {
+                    for (int i = offset; generating.get(); i++) {
+                        String path = READ_ENDPOINTS.get(i % READ_ENDPOINTS.size());
+                        send(client, baseUrl, "GET", path, "read " + path);
+                    }
+                });
+            }
+
+            for (int round = 1; round <= rounds; round++) {
+                if (cold) {
+                    cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+                }
+                System.out.printf("Round %d/%d: %d concurrent generations%n", round, rounds, generations);
+                List<Future<?>> running = new ArrayList<>();
+                for (int g = 0; g < generations; g++) {
+                    running.add(threads.submit(() -> {
+                        send(client, baseUrl, "POST", generatePath, "generate");
+                        recordSummaryStages(summaryStats, seenRuns);
+                    }));
+                }
+                for (Future<?> generation : running) {
+                    generation.get();
+                }
+            }
+            generating.set(false);
+        }
+    }
+
+    private void send(HttpClient client, String baseUrl, String method, String path, String label) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .header("Accept-Encoding", "gzip")
+                .timeout(Duration.ofMinutes(10))
+                .build();
+        long start = System.nanoTime();
+        boolean ok;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            ok = response.statusCode() < 400;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            ok = false;
+        }
+        if (label != null) {
+            latencies.computeIfAbsent(label, l -> new Latencies()).record(System.nanoTime() - start, ok);
+        }
+    }
+
+    /**
+     * Records the stages of summary runs finished since the last call. Concurrent runs of the
+     * same strategy can overwrite each other's entry before it is seen, so stage samples may
+     * be fewer than generations.
+     */
+    private void recordSummaryStages(SummaryStats summaryStats, Set<SummaryStats.Run> seenRuns) {
+        for (SummaryStats.Run run : summaryStats.lastRuns().values()) {
+            if (!seenRuns.add(run)) {
+                continue;
+            }
+            String prefix = "summary " + run.strategy() + " ";
+            latencies.computeIfAbsent(prefix + "total", l -> new Latencies())
+                    .record(run.totalMillis() * 1_000_000, true);
+            for (SummaryStats.Stage stage : run.stages()) {
+                latencies.computeIfAbsent(prefix + stage.name(), l -> new Latencies())
+                        .record(stage.millis() * 1_000_000, true);
+            }
+        }
+    }
+
+    private void report(ConfigurableApplicationContext app, UpstreamStubs stubs) {
+        System.out.println();
+        System.out.printf("%-48s %8s %7s %10s %10s %10s %10s%n", "latency (ms)", "count", "errors", "p50", "p99",
+                "p999", "max");
+        new TreeMap<>(latencies).forEach((label, samples) -> {
+            long[] sorted = samples.sorted();
+            System.out.printf("%-48s %8d %7d %10.1f %10.1f %10.1f %10.1f%n", label, sorted.length,
+                    samples.errors(), millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                    millis(percentile(sorted, 0.999)), millis(sorted.length > 0 ? sorted[sorted.length - 1] : 0));
+        });
+
+        System.out.println();
+        System.out.printf("%-48s %8s %10s %10s %10s %10s%n", "source fetch (ms)", "calls", "avg queue",
+                "max queue", "avg I/O", "max I/O");
+        MeterRegistry registry = app.getBean(MeterRegistry.class);
+        new TreeMap<>(registry.find("digest.execution.io").timers().stream()
+                .collect(Collectors.toMap(timer -> timer.getId().getTag("source"), timer -> timer)))
+                .forEach((source, io) -> {
+                    Timer queue = registry.find("digest.execution.queue").tag("source", source).timer();
+                    System.out.printf("%-48s %8d %10.1f %10.1f %10.1f %10.1f%n", source, io.count(),
+                            queue != null ? queue.mean(TimeUnit.MILLISECONDS) : 0.0,
+                            queue != null ? queue.max(TimeUnit.MILLISECONDS) : 0.0,
+                            io.mean(TimeUnit.MILLISECONDS), io.max(TimeUnit.MILLISECONDS));
+                });
+
+        System.out.println();
+        System.out.printf("%-48s %8s %7s%n", "upstream stub", "requests", "errors");
+        stubs.counts().forEach((upstream, counts) ->
+                System.out.printf("%-48s %8d %7d%n", upstream, counts[0], counts[1]));
+    }
+
+    private long longSetting(String key, long defaultValue) {
+        String value = settings.get(key);
+        return value != null ? Long.parseLong(value) : defaultValue;
+    }
+
+    private double doubleSetting(String key, double defaultValue) {
+        String value = settings.get(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * All samples of one label; the harness keeps every sample so the tail percentiles are
+     * exact rather than bucketed.
+     */
+    private static final class Latencies {
+        private long[] samples = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void record(long nanos, boolean ok) {
+            if (!ok) {
+                errors++;
+            }
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size * 2);
+            }
+            samples[size++] = nanos;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommonMark parse and render of a summary, as done for every edition and for each sampled
+ * frame of the streamed summary. {@code bullets} is the number of bullets in the summary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class MarkdownRenderBenchmark {
+
+    @Param({"20", "1000", "100000"})
+    public int bullets;
+
+    private Parser parser;
+    private HtmlRenderer renderer;
+    private String markdown;
+
+    @Setup
+    public void setUp() {
+        parser = Parser.builder().build();
+        renderer = HtmlRenderer.builder().build();
+        markdown = Fixtures.summaryMarkdown(bullets);
+    }
+
+    @Benchmark
+    public String parseAndRender() {
+        return renderer.render(parser.parse(markdown));
+    }
+}
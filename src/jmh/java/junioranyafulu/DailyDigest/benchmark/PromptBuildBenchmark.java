@@ -0,0 +1,48 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import junioranyafulu.DailyDigest.dto.Article;
+import junioranyafulu.DailyDigest.service.SummaryPrompts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the single-prompt summary prompt. Besides the prompt itself, the prompt
+ * budgeter builds one per candidate article to price it, so this sits on its hot path too.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class PromptBuildBenchmark {
+
+    @Param({"20", "1000", "100000"})
+    public int items;
+
+    private SummaryPrompts summaryPrompts;
+    private List<Article> articles;
+
+    @Setup
+    public void setUp() {
+        summaryPrompts = new SummaryPrompts();
+        articles = Fixtures.articles(items);
+    }
+
+    @Benchmark
+    public String buildPrompt() {
+        return summaryPrompts.buildPrompt(articles);
+    }
+}
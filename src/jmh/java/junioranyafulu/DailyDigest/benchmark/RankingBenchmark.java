@@ -0,0 +1,134 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import junioranyafulu.DailyDigest.dto.rawg.RawgGame;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow;
+import junioranyafulu.DailyDigest.service.RankingService;
+import junioranyafulu.DailyDigest.service.ScoringModels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Ranking throughput of {@link RankingService} over decoded upstream lists, from a single
+ * trending page up to a merged candidate pool, scored with the default model. The
+ * {@code fullSort*} benchmarks are the original implementation (a stable sort with the
+ * hard-coded score recomputed in every comparison) as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RankingBenchmark {
+
+    @Param({"20", "1000", "100000"})
+    public int items;
+
+    @Param({"6", "20"})
+    public int k;
+
+    private RankingService rankingService;
+    private List<TmdbMovie> movies;
+    private List<TmdbTVShow> tvShows;
+    private List<RawgGame> games;
+    private List<List<TmdbMovie>> moviePools;
+
+    @Setup
+    public void setUp() {
+        rankingService = new RankingService(ScoringModels.defaults(), k);
+        movies = Fixtures.movies(items);
+        tvShows = Fixtures.tvShows(items);
+        games = Fixtures.games(items);
+
+        // Four overlapping halves, like trending/upcoming/popular/top rated sharing titles
+        moviePools = new ArrayList<>();
+        int half = Math.max(1, items / 2);
+        for (int pool = 0; pool < 4; pool++) {
+            int from = pool * items / 4;
+            moviePools.add(new ArrayList<>(movies.subList(from, Math.min(items, from + half))));
+        }
+    }
+
+    @Benchmark
+    public List<TmdbMovie> rankMovies() {
+        return rankingService.rankMovies(movies);
+    }
+
+    @Benchmark
+    public List<TmdbTVShow> rankTVShows() {
+        return rankingService.rankTVShows(tvShows);
+    }
+
+    @Benchmark
+    public List<RawgGame> rankGames() {
+        return rankingService.rankGames(games);
+    }
+
+    @Benchmark
+    public List<TmdbMovie> rankMoviePools() {
+        return rankingService.rankMoviePools(moviePools);
+    }
+
+    @Benchmark
+    public List<TmdbMovie> fullSortMovies() {
+        return movies.stream()
+                .sorted(Comparator.comparingDouble(RankingBenchmark::movieScore).reversed())
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<TmdbTVShow> fullSortTVShows() {
+        return tvShows.stream()
+                .sorted(Comparator.comparingDouble(RankingBenchmark::tvScore).reversed())
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<RawgGame> fullSortGames() {
+        return games.stream()
+                .sorted(Comparator.comparingDouble(RankingBenchmark::gameScore).reversed())
+                .limit(k)
+                .collect(Collectors.toList());
+    }
+
+    private static double movieScore(TmdbMovie movie) {
+        if (movie.getVoteAverage() == null || movie.getVoteCount() == null)
+            return 0.0;
+        return movie.getVoteAverage() * Math.log10(movie.getVoteCount() + 1);
+    }
+
+    private static double tvScore(TmdbTVShow show) {
+        if (show.getVoteAverage() == null || show.getVoteCount() == null)
+            return 0.0;
+        return show.getVoteAverage() * Math.log10(show.getVoteCount() + 1);
+    }
+
+    private static double gameScore(RawgGame game) {
+        double score = 0.0;
+        if (game.getMetacritic() != null) {
+            score += game.getMetacritic();
+        }
+        if (game.getRating() != null) {
+            score += game.getRating() * 4;
+        }
+        return score;
+    }
+}
@@ -0,0 +1,97 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGame;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the {@code rawGames}/{@code rawMovies}/{@code rawTV} columns: serialising
+ * the ranked lists when a digest is saved, and reading them back when an edition is
+ * re-rendered from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class RawDataJsonBenchmark {
+
+    private static final TypeReference<List<RawgGame>> GAMES = new TypeReference<>() {
+    };
+    private static final TypeReference<List<TmdbMovie>> MOVIES = new TypeReference<>() {
+    };
+    private static final TypeReference<List<TmdbTVShow>> TV_SHOWS = new TypeReference<>() {
+    };
+
+    @Param({"20", "1000", "100000"})
+    public int items;
+
+    private ObjectMapper objectMapper;
+    private List<RawgGame> games;
+    private List<TmdbMovie> movies;
+    private List<TmdbTVShow> tvShows;
+    private String rawGames;
+    private String rawMovies;
+    private String rawTV;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Spring Boot's ObjectMapper ignores unknown properties; mirror that here
+        objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        games = Fixtures.games(items);
+        movies = Fixtures.movies(items);
+        tvShows = Fixtures.tvShows(items);
+        rawGames = objectMapper.writeValueAsString(games);
+        rawMovies = objectMapper.writeValueAsString(movies);
+        rawTV = objectMapper.writeValueAsString(tvShows);
+    }
+
+    @Benchmark
+    public String writeGames() throws IOException {
+        return objectMapper.writeValueAsString(games);
+    }
+
+    @Benchmark
+    public List<RawgGame> readGames() throws IOException {
+        return objectMapper.readValue(rawGames, GAMES);
+    }
+
+    @Benchmark
+    public String writeMovies() throws IOException {
+        return objectMapper.writeValueAsString(movies);
+    }
+
+    @Benchmark
+    public List<TmdbMovie> readMovies() throws IOException {
+        return objectMapper.readValue(rawMovies, MOVIES);
+    }
+
+    @Benchmark
+    public String writeTV() throws IOException {
+        return objectMapper.writeValueAsString(tvShows);
+    }
+
+    @Benchmark
+    public List<TmdbTVShow> readTV() throws IOException {
+        return objectMapper.readValue(rawTV, TV_SHOWS);
+    }
+}
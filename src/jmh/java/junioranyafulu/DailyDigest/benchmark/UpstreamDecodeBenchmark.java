@@ -0,0 +1,85 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junioranyafulu.DailyDigest.client.UpstreamJsonDecoder;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovieResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode time per response for the streaming {@link UpstreamJsonDecoder} against full
+ * data binding into the DTOs. Run with {@code -prof gc} to compare bytes allocated per
+ * operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpstreamDecodeBenchmark {
+
+    @Param({"20", "1000"})
+    public int items;
+
+    private ObjectMapper objectMapper;
+    private UpstreamJsonDecoder decoder;
+    private byte[] rawgGames;
+    private byte[] tmdbMovies;
+    private byte[] tmdbTV;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot's ObjectMapper ignores unknown properties; mirror that here
+        objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        decoder = new UpstreamJsonDecoder(objectMapper);
+        rawgGames = Fixtures.rawgGamesJson(items);
+        tmdbMovies = Fixtures.tmdbMoviesJson(items);
+        tmdbTV = Fixtures.tmdbTVJson(items);
+    }
+
+    @Benchmark
+    public RawgGamesResponse rawgFullBinding() throws IOException {
+        return objectMapper.readValue(rawgGames, RawgGamesResponse.class);
+    }
+
+    @Benchmark
+    public RawgGamesResponse rawgStreaming() {
+        return decoder.decodeRawgGames(rawgGames);
+    }
+
+    @Benchmark
+    public TmdbMovieResponse tmdbMoviesFullBinding() throws IOException {
+        return objectMapper.readValue(tmdbMovies, TmdbMovieResponse.class);
+    }
+
+    @Benchmark
+    public TmdbMovieResponse tmdbMoviesStreaming() {
+        return decoder.decodeTmdbMovies(tmdbMovies);
+    }
+
+    @Benchmark
+    public TmdbTVResponse tmdbTVFullBinding() throws IOException {
+        return objectMapper.readValue(tmdbTV, TmdbTVResponse.class);
+    }
+
+    @Benchmark
+    public TmdbTVResponse tmdbTVStreaming() {
+        return decoder.decodeTmdbTV(tmdbTV);
+    }
+}
@@ -0,0 +1,265 @@
+package junioranyafulu.DailyDigest.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import junioranyafulu.DailyDigest.service.ArticleClassifier;
+import junioranyafulu.DailyDigest.service.FakeSummaryBackend;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process stand-ins for NewsAPI, TMDb, RAWG and Ollama on one JDK {@link HttpServer}, under
+ * {@code /newsapi}, {@code /tmdb}, {@code /rawg} and {@code /ollama}. Every upstream has its
+ * own {@link Fault} profile (base latency, uniform jitter, error rate). List endpoints replay
+ * a recorded payload from the recordings directory when one exists ({@code newsapi.json},
+ * {@code tmdb-movies.json}, {@code tmdb-tv.json}, {@code rawg-games.json}) and the
+ * {@link Fixtures} payloads otherwise; news gets a fresh article set per request so the
+ * summary cache does not hide the model. The Ollama stub answers {@code /api/chat} with the
+ * {@link FakeSummaryBackend} text, streamed as NDJSON at the configured token rate.
+ */
+public final class UpstreamStubs implements AutoCloseable {
+
+    public static final String NEWSAPI = "newsapi";
+    public static final String TMDB = "tmdb";
+    public static final String RAWG = "rawg";
+    public static final String OLLAMA = "ollama";
+
+    private final HttpServer server;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final FakeSummaryBackend model;
+    private final Map<String, Fault> faults;
+    private final int listItems;
+    private final Duration firstToken;
+    private final long tokenIntervalNanos;
+    private final byte[] movies;
+    private final byte[] tvShows;
+    private final byte[] games;
+    private final byte[] recordedNews;
+    private final AtomicLong newsSeed = new AtomicLong();
+    private final Map<String, LongAdder> requests = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> injectedErrors = new ConcurrentHashMap<>();
+
+    public UpstreamStubs(Map<String, Fault> faults, int listItems, Path recordings, Duration firstToken,
+            double tokensPerSecond) throws IOException {
+        this.faults = faults;
+        this.listItems = listItems;
+        this.firstToken = firstToken;
+        this.tokenIntervalNanos = (long) (1_000_000_000L / Math.max(tokensPerSecond, 0.001));
+        this.model = new FakeSummaryBackend(new ArticleClassifier(), Duration.ZERO, tokensPerSecond);
+        this.movies = recorded(recordings, "tmdb-movies.json", Fixtures.tmdbMoviesJson(listItems));
+        this.tvShows = recorded(recordings, "tmdb-tv.json", Fixtures.tmdbTVJson(listItems));
+        this.games = recorded(recordings, "rawg-games.json", Fixtures.rawgGamesJson(listItems));
+        this.recordedNews = recorded(recordings, "newsapi.json", null);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/" + NEWSAPI, exchange -> handle(NEWSAPI, exchange));
+        server.createContext("/" + TMDB, exchange -> handle(TMDB, exchange));
+        server.createContext("/" + RAWG, exchange -> handle(RAWG, exchange));
+        server.createContext("/" + OLLAMA, exchange -> handle(OLLAMA, exchange));
+        server.start();
+    }
+
+    public String baseUrl(String upstream) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/" + upstream;
+    }
+
+    /**
+     * Requests served and errors injected per upstream, as {@code [requests, errors]}.
+     */
+    public Map<String, long[]> counts() {
+        Map<String, long[]> counts = new TreeMap<>();
+        requests.forEach((upstream, served) -> counts.put(upstream, new long[] {served.sum(),
+                injectedErrors.computeIfAbsent(upstream, u -> new LongAdder()).sum()}));
+        return counts;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(String upstream, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.computeIfAbsent(upstream, u -> new LongAdder()).increment();
+            Fault fault = faults.get(upstream);
+            sleep(fault.delay());
+            if (fault.fails()) {
+                injectedErrors.computeIfAbsent(upstream, u -> new LongAdder()).increment();
+                send(exchange, 503, "{\"status\":\"error\",\"message\":\"injected failure\"}");
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath().substring(upstream.length() + 1);
+            switch (upstream) {
+                case NEWSAPI -> send(exchange, 200, recordedNews != null ? recordedNews : news());
+                case TMDB -> tmdb(exchange, path);
+                case RAWG -> rawg(exchange, path);
+                default -> ollama(exchange, path);
+            }
+        }
+    }
+
+    private byte[] news() throws IOException {
+        ObjectNode root = mapper.createObjectNode().put("status", "ok").put("totalResults", listItems);
+        root.set("articles", mapper.valueToTree(Fixtures.articles(listItems, newsSeed.incrementAndGet())));
+        return mapper.writeValueAsBytes(root);
+    }
+
+    private void tmdb(HttpExchange exchange, String path) throws IOException {
+        if (path.startsWith("/trending/movie") || path.equals("/movie/upcoming")) {
+            send(exchange, 200, movies);
+        } else if (path.startsWith("/trending/tv") || path.equals("/tv/popular")) {
+            send(exchange, 200, tvShows);
+        } else {
+            // /movie/{id} or /tv/{id} with append_to_response=videos,credits
+            String id = path.substring(path.lastIndexOf('/') + 1);
+            ObjectNode details = mapper.createObjectNode().put("id", id);
+            details.putObject("videos").putArray("results").addObject()
+                    .put("site", "YouTube").put("type", "Trailer").put("key", "trailer-" + id);
+            ArrayNode cast = details.putObject("credits").putArray("cast");
+            for (int i = 1; i <= 5; i++) {
+                cast.addObject().put("name", "Actor " + id + "-" + i);
+            }
+            send(exchange, 200, mapper.writeValueAsBytes(details));
+        }
+    }
+
+    private void rawg(HttpExchange exchange, String path) throws IOException {
+        if (path.equals("/games")) {
+            send(exchange, 200, games);
+            return;
+        }
+        String id = path.substring(path.lastIndexOf('/') + 1);
+        ObjectNode details = mapper.createObjectNode()
+                .put("id", id)
+                .put("description_raw", "Details for game " + id + ". " + "A sprawling adventure. ".repeat(20))
+                .put("updated", "2025-01-01T10:00:00");
+        send(exchange, 200, mapper.writeValueAsBytes(details));
+    }
+
+    private void ollama(HttpExchange exchange, String path) throws IOException {
+        JsonNode request = mapper.readTree(exchange.getRequestBody());
+        String modelName = request.path("model").asText("stub");
+        if (path.equals("/api/generate")) {
+            // Warm-up request: the model is always "loaded"
+            send(exchange, 200, mapper.writeValueAsBytes(mapper.createObjectNode()
+                    .put("model", modelName).put("response", "").put("done", true)
+                    .put("load_duration", 0).put("total_duration", 0)));
+            return;
+        }
+
+        JsonNode messages = request.path("messages");
+        String prompt = messages.isArray() && !messages.isEmpty()
+                ? messages.get(messages.size() - 1).path("content").asText("")
+                : "";
+        String text = model.respond(prompt);
+        String[] chunks = text.split("(?<=[ \\n])");
+        long promptTokens = (prompt.length() + 3) / 4;
+
+        sleep(firstToken);
+        if (!request.path("stream").asBoolean(true)) {
+            sleep(Duration.ofNanos(tokenIntervalNanos * chunks.length));
+            send(exchange, 200, mapper.writeValueAsBytes(chatChunk(modelName, text, true, promptTokens,
+                    chunks.length)));
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream body = exchange.getResponseBody();
+        for (String chunk : chunks) {
+            body.write(mapper.writeValueAsBytes(chatChunk(modelName, chunk, false, 0, 0)));
+            body.write('\n');
+            body.flush();
+            sleep(Duration.ofNanos(tokenIntervalNanos));
+        }
+        body.write(mapper.writeValueAsBytes(chatChunk(modelName, "", true, promptTokens, chunks.length)));
+        body.write('\n');
+        body.flush();
+    }
+
+    private ObjectNode chatChunk(String modelName, String content, boolean done, long promptTokens,
+            long generationTokens) {
+        ObjectNode chunk = mapper.createObjectNode()
+                .put("model", modelName)
+                .put("created_at", Instant.now().toString());
+        chunk.putObject("message").put("role", "assistant").put("content", content);
+        chunk.put("done", done);
+        if (done) {
+            chunk.put("done_reason", "stop")
+                    .put("prompt_eval_count", promptTokens)
+                    .put("eval_count", generationTokens);
+        }
+        return chunk;
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        send(exchange, status, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static byte[] recorded(Path recordings, String file, byte[] fallback) {
+        if (recordings == null || !Files.isRegularFile(recordings.resolve(file))) {
+            return fallback;
+        }
+        try {
+            return Files.readAllBytes(recordings.resolve(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Latency and failure injection for one upstream: each request waits {@code latency}
+     * plus a uniform offset in {@code [-jitter, +jitter]}, then fails with a 503 with
+     * probability {@code errorRate}.
+     */
+    public record Fault(Duration latency, Duration jitter, double errorRate) {
+
+        Duration delay() {
+            long jitterNanos = jitter.toNanos();
+            long offset = jitterNanos > 0 ? ThreadLocalRandom.current().nextLong(-jitterNanos, jitterNanos + 1) : 0;
+            return Duration.ofNanos(Math.max(0, latency.toNanos() + offset));
+        }
+
+        boolean fails() {
+            return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        }
+    }
+}
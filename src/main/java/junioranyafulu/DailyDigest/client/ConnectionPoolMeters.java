@@ -0,0 +1,66 @@
+package junioranyafulu.DailyDigest.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Receives the per-host connection pools created by the shared upstream connection provider
+ * and binds their live sizes as {@code digest.upstream.pool.*} gauges (active, idle,
+ * pending, allocated and max connections), tagged with the pool and remote address, so
+ * saturation during enrichment bursts is visible.
+ */
+@Component
+public class ConnectionPoolMeters implements ConnectionProvider.MeterRegistrar {
+
+    private final MeterRegistry registry;
+    private final Map<String, List<Meter>> pools = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ConnectionPoolMeters(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress,
+            ConnectionPoolMetrics metrics) {
+        Tags tags = Tags.of("pool", poolName, "remote", String.valueOf(remoteAddress));
+        pools.put(key(poolName, remoteAddress), List.of(
+                gauge("digest.upstream.pool.active", tags, metrics, ConnectionPoolMetrics::acquiredSize),
+                gauge("digest.upstream.pool.idle", tags, metrics, ConnectionPoolMetrics::idleSize),
+                gauge("digest.upstream.pool.pending", tags, metrics, ConnectionPoolMetrics::pendingAcquireSize),
+                gauge("digest.upstream.pool.allocated", tags, metrics, ConnectionPoolMetrics::allocatedSize),
+                gauge("digest.upstream.pool.max", tags, metrics, ConnectionPoolMetrics::maxAllocatedSize)));
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        List<Meter> meters = pools.remove(key(poolName, remoteAddress));
+        if (meters != null) {
+            meters.forEach(registry::remove);
+        }
+    }
+
+    private Meter gauge(String name, Tags tags, ConnectionPoolMetrics metrics,
+            ToDoubleFunction<ConnectionPoolMetrics> size) {
+        return Gauge.builder(name, metrics, size)
+                .tags(tags)
+                .baseUnit("connections")
+                .register(registry);
+    }
+
+    private static String key(String poolName, SocketAddress remoteAddress) {
+        return poolName + "@" + remoteAddress;
+    }
+}
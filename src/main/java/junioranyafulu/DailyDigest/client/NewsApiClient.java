@@ -29,42 +29,46 @@ public class NewsApiClient {
     @Value("${api.newsapi.page-size}")
     private Integer pageSize;
 
-    public NewsApiClient(@Value("${api.newsapi.base-url}") String baseUrl) {
-        this.webClient = WebClient.builder()
+    public NewsApiClient(UpstreamWebClients upstreamWebClients, @Value("${api.newsapi.base-url}") String baseUrl) {
+        this.webClient = upstreamWebClients.builder()
                 .baseUrl(Objects.requireNonNull(baseUrl))
                 .build();
     }
 
-    @Cacheable("news")
+    @Cacheable(cacheNames = "news", sync = true)
     public NewsApiResponse getTopHeadlines() {
-        log.info("Fetching top entertainment headlines from NewsAPI");
-
         try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/top-headlines")
-                            .queryParam("country", country)
-                            .queryParam("category", category)
-                            .queryParam("pageSize", pageSize)
-                            .queryParam("apiKey", apiKey)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(NewsApiResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .doOnSuccess(response -> log.info("Successfully fetched {} articles",
-                            response != null && response.getArticles() != null ? response.getArticles().size() : 0))
-                    .doOnError(error -> log.error("Error fetching top headlines: {}", error.getMessage()))
-                    .onErrorResume(e -> {
-                        log.warn("Returning empty response due to error");
-                        return Mono.just(NewsApiResponse.builder().build());
-                    })
-                    .block();
+            return fetchTopHeadlines().block();
         } catch (Exception e) {
             log.error("Exception while fetching top headlines", e);
             return NewsApiResponse.builder().build();
         }
     }
 
+    public Mono<NewsApiResponse> fetchTopHeadlines() {
+        log.info("Fetching top entertainment headlines from NewsAPI");
+
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/top-headlines")
+                        .queryParam("country", country)
+                        .queryParam("category", category)
+                        .queryParam("pageSize", pageSize)
+                        .queryParam("apiKey", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(NewsApiResponse.class)
+                .timeout(Duration.ofSeconds(10))
+                .doOnSuccess(response -> log.info("Successfully fetched {} articles",
+                        response != null && response.getArticles() != null ? response.getArticles().size() : 0))
+                .doOnError(error -> log.error("Error fetching top headlines: {}", error.getMessage()))
+                .onErrorResume(e -> {
+                    log.warn("Returning empty response due to error");
+                    return Mono.just(NewsApiResponse.builder().build());
+                })
+                .defaultIfEmpty(NewsApiResponse.builder().build());
+    }
+
     public NewsApiResponse searchEntertainmentNews(String query) {
         log.info("Searching entertainment news for: {}", query);
 
@@ -0,0 +1,75 @@
+package junioranyafulu.DailyDigest.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Splits Ollama's own accounting of a request into {@code digest.ollama.load}, the time spent
+ * loading the model ({@code load_duration}), and {@code digest.ollama.inference}, the rest of
+ * the request ({@code total_duration - load_duration}). Both are tagged with the model and the
+ * call: the warm-up, which should carry the load, or a summary, which should not. Warm-ups
+ * that fail are counted as {@code digest.ollama.warmup.failures}.
+ */
+@Component
+public class OllamaMetrics {
+
+    public static final String WARMUP = "warmup";
+    public static final String SUMMARY = "summary";
+
+    // Keys of Spring AI's Ollama chat response metadata
+    private static final String LOAD_DURATION = "load-duration";
+    private static final String TOTAL_DURATION = "total-duration";
+
+    private final MeterRegistry registry;
+
+    @Autowired
+    public OllamaMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Records one request; a request without a total duration (a failed or partial
+     * response) is skipped.
+     */
+    public void record(String model, String call, Duration load, Duration total) {
+        if (total == null) {
+            return;
+        }
+        Duration loading = load != null ? load : Duration.ZERO;
+        Duration inference = total.minus(loading);
+        timer("digest.ollama.load", model, call).record(loading);
+        timer("digest.ollama.inference", model, call).record(inference.isNegative() ? Duration.ZERO : inference);
+    }
+
+    /**
+     * Records the durations Spring AI copies into the metadata of the final response.
+     */
+    public void record(String model, String call, ChatResponseMetadata metadata) {
+        if (metadata == null) {
+            return;
+        }
+        String reported = metadata.getModel();
+        record(reported != null && !reported.isEmpty() ? reported : model, call,
+                duration(metadata.get(LOAD_DURATION)), duration(metadata.get(TOTAL_DURATION)));
+    }
+
+    public void recordWarmupFailure(String model) {
+        registry.counter("digest.ollama.warmup.failures", "model", model).increment();
+    }
+
+    private Timer timer(String name, String model, String call) {
+        return Timer.builder(name)
+                .tag("model", model)
+                .tag("call", call)
+                .register(registry);
+    }
+
+    private static Duration duration(Object value) {
+        return value instanceof Duration duration ? duration : null;
+    }
+}
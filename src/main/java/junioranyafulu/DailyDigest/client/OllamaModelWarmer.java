@@ -0,0 +1,128 @@
+package junioranyafulu.DailyDigest.client;
+
+import junioranyafulu.DailyDigest.dto.OllamaRequest;
+import junioranyafulu.DailyDigest.dto.OllamaResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Loads the summary model into Ollama before it is needed: once at startup and, when
+ * generations are scheduled, {@code lead} before every scheduled generation. An empty-prompt
+ * {@code /api/generate} request makes Ollama load the model without generating anything, and
+ * {@code keep_alive} keeps it resident through the generation window. Load and inference time
+ * are recorded through {@link OllamaMetrics}. Failures are counted and logged, and otherwise
+ * ignored; the generation then simply pays the load itself.
+ */
+@Component
+@Slf4j
+public class OllamaModelWarmer {
+
+    private final WebClient webClient;
+    private final TaskScheduler taskScheduler;
+    private final OllamaMetrics ollamaMetrics;
+    private final String model;
+    private final boolean enabled;
+    private final boolean schedulingEnabled;
+    private final String keepAlive;
+    private final Duration timeout;
+    private final Duration lead;
+    private final CronExpression generationCron;
+
+    public OllamaModelWarmer(
+            WebClient.Builder webClientBuilder,
+            TaskScheduler taskScheduler,
+            OllamaMetrics ollamaMetrics,
+            @Value("${spring.ai.ollama.base-url:http://localhost:11434}") String baseUrl,
+            @Value("${spring.ai.ollama.chat.options.model:phi3:mini}") String model,
+            @Value("${digest.ollama.warmup.enabled:true}") boolean enabled,
+            @Value("${digest.ollama.warmup.keep-alive:30m}") String keepAlive,
+            @Value("${digest.ollama.warmup.timeout:PT2M}") Duration timeout,
+            @Value("${digest.ollama.warmup.lead:PT10M}") Duration lead,
+            @Value("${digest.scheduling.enabled:true}") boolean schedulingEnabled,
+            @Value("${digest.scheduling.cron:0 0 8 * * *}") String generationCron) {
+        this.webClient = webClientBuilder
+                .baseUrl(Objects.requireNonNull(baseUrl))
+                .build();
+        this.taskScheduler = taskScheduler;
+        this.ollamaMetrics = ollamaMetrics;
+        this.model = model;
+        this.enabled = enabled;
+        this.schedulingEnabled = schedulingEnabled;
+        this.keepAlive = keepAlive;
+        this.timeout = timeout;
+        this.lead = lead;
+        this.generationCron = CronExpression.parse(generationCron);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!enabled) {
+            return;
+        }
+        warmUp().subscribe();
+        if (!schedulingEnabled) {
+            // Without scheduled generations there is no run to warm up for
+            return;
+        }
+        // Fire and forget: the scheduler thread is shared with the other scheduled tasks
+        taskScheduler.schedule(() -> warmUp().subscribe(), context -> nextWarmup());
+        log.info("Ollama warm-up for {} scheduled for {}", model, nextWarmup());
+    }
+
+    /**
+     * Asks Ollama to load the model; completes when it is loaded or the attempt failed.
+     */
+    public Mono<Void> warmUp() {
+        long start = System.nanoTime();
+        return webClient.post()
+                .uri("/api/generate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .httpRequest(request -> {
+                    // Loading a model on a CPU host can take far longer than the shared read timeout
+                    HttpClientRequest nativeRequest = request.getNativeRequest();
+                    nativeRequest.responseTimeout(timeout);
+                })
+                .bodyValue(OllamaRequest.builder().model(model).prompt("").stream(false).keepAlive(keepAlive).build())
+                .retrieve()
+                .bodyToMono(OllamaResponse.class)
+                .timeout(timeout)
+                .doOnNext(response -> record(response, System.nanoTime() - start))
+                .doOnError(e -> {
+                    ollamaMetrics.recordWarmupFailure(model);
+                    log.warn("Ollama warm-up for {} failed: {}", model, e.getMessage());
+                })
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private void record(OllamaResponse response, long elapsedNanos) {
+        long total = response.getTotalDuration() != null ? response.getTotalDuration() : elapsedNanos;
+        long load = response.getLoadDuration() != null ? response.getLoadDuration() : 0;
+        ollamaMetrics.record(model, OllamaMetrics.WARMUP, Duration.ofNanos(load), Duration.ofNanos(total));
+        log.info("Ollama model {} ready: load {} ms, round trip {} ms (keep_alive {})", model,
+                load / 1_000_000, elapsedNanos / 1_000_000, keepAlive);
+    }
+
+    private Instant nextWarmup() {
+        LocalDateTime nextRun = generationCron.next(LocalDateTime.now().plus(lead));
+        if (nextRun == null) {
+            return null;
+        }
+        return nextRun.minus(lead).atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
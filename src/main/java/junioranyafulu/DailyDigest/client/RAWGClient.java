@@ -1,22 +1,32 @@
 package junioranyafulu.DailyDigest.client;
 
+import junioranyafulu.DailyDigest.domain.GameEnrichment;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGame;
 import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
+import junioranyafulu.DailyDigest.repository.GameEnrichmentRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class RAWGClient {
 
     private final WebClient webClient;
+    private final UpstreamJsonDecoder jsonDecoder;
+    private final GameEnrichmentRepository enrichmentRepository;
 
     @Value("${api.rawg.key}")
     private String apiKey;
@@ -24,14 +34,36 @@ public class RAWGClient {
     @Value("${api.rawg.page-size}")
     private Integer pageSize;
 
-    public RAWGClient(@Value("${api.rawg.base-url}") String baseUrl) {
-        this.webClient = WebClient.builder()
+    @Value("${api.rawg.enrich-limit:20}")
+    private int enrichLimit;
+
+    @Value("${api.rawg.enrich-concurrency:5}")
+    private int enrichConcurrency;
+
+    @Value("${api.rawg.enrichment-max-age:P30D}")
+    private Duration enrichmentMaxAge;
+
+    public RAWGClient(UpstreamWebClients upstreamWebClients, UpstreamJsonDecoder jsonDecoder,
+            GameEnrichmentRepository enrichmentRepository,
+            @Value("${api.rawg.base-url}") String baseUrl) {
+        this.jsonDecoder = jsonDecoder;
+        this.enrichmentRepository = enrichmentRepository;
+        this.webClient = upstreamWebClients.builder()
                 .baseUrl(java.util.Objects.requireNonNull(baseUrl))
                 .build();
     }
 
-    @Cacheable("games")
+    @Cacheable(cacheNames = "games", sync = true)
     public RawgGamesResponse getTrendingGames() {
+        try {
+            return fetchTrendingGames().block();
+        } catch (Exception e) {
+            log.error("Exception while fetching trending games", e);
+            return RawgGamesResponse.builder().build();
+        }
+    }
+
+    public Mono<RawgGamesResponse> fetchTrendingGames() {
         log.info("Fetching trending games from RAWG");
 
         // Get games from the last 30 days, ordered by popularity
@@ -41,36 +73,32 @@ public class RAWGClient {
         String dates = thirtyDaysAgo.format(DateTimeFormatter.ISO_LOCAL_DATE) + "," +
                 today.format(DateTimeFormatter.ISO_LOCAL_DATE);
 
-        try {
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/games")
-                            .queryParam("key", apiKey)
-                            .queryParam("dates", dates)
-                            .queryParam("ordering", "-added")
-                            .queryParam("page_size", pageSize)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(RawgGamesResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .flatMap(response -> {
-                        if (response != null && response.getResults() != null) {
-                            log.info("Successfully fetched {} trending games", response.getResults().size());
-                            return enrichGames(response.getResults())
-                                    .thenReturn(response);
-                        }
-                        return Mono.just(response);
-                    })
-                    .doOnError(error -> log.error("Error fetching trending games: {}", error.getMessage()))
-                    .onErrorResume(e -> {
-                        log.warn("Returning empty response due to error");
-                        return Mono.just(RawgGamesResponse.builder().build());
-                    })
-                    .block();
-        } catch (Exception e) {
-            log.error("Exception while fetching trending games", e);
-            return RawgGamesResponse.builder().build();
-        }
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/games")
+                        .queryParam("key", apiKey)
+                        .queryParam("dates", dates)
+                        .queryParam("ordering", "-added")
+                        .queryParam("page_size", pageSize)
+                        .build())
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(jsonDecoder::decodeRawgGames)
+                .timeout(Duration.ofSeconds(10))
+                .flatMap(response -> {
+                    if (response != null && response.getResults() != null) {
+                        log.info("Successfully fetched {} trending games", response.getResults().size());
+                        return enrichGames(response.getResults())
+                                .thenReturn(response);
+                    }
+                    return Mono.just(response);
+                })
+                .doOnError(error -> log.error("Error fetching trending games: {}", error.getMessage()))
+                .onErrorResume(e -> {
+                    log.warn("Returning empty response due to error");
+                    return Mono.just(RawgGamesResponse.builder().build());
+                })
+                .defaultIfEmpty(RawgGamesResponse.builder().build());
     }
 
     public RawgGamesResponse getNewReleases() {
@@ -174,31 +202,89 @@ public class RAWGClient {
         }
     }
 
-    private Mono<Void> enrichGames(java.util.List<junioranyafulu.DailyDigest.dto.rawg.RawgGame> games) {
-        // Limit to top 5 to avoid rate limits
-        return reactor.core.publisher.Flux.fromIterable(games)
-                .take(5)
-                .flatMap(game -> webClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/games/" + game.getId())
-                                .queryParam("key", apiKey)
-                                .build())
-                        .retrieve()
-                        .bodyToMono(junioranyafulu.DailyDigest.dto.rawg.RawgGame.class)
-                        .timeout(Duration.ofSeconds(5))
-                        .doOnNext(details -> {
-                            if (details != null) {
-                                game.setDescriptionRaw(details.getDescriptionRaw());
-                                // Fallback if raw description is empty
-                                if (game.getDescriptionRaw() == null || game.getDescriptionRaw().isEmpty()) {
-                                    game.setDescriptionRaw(details.getDescription());
-                                }
+    /**
+     * Adds descriptions to the top games. Details are kept in the game_enrichments table and
+     * only re-fetched when RAWG reports a different {@code updated} timestamp for the game (or,
+     * when it reports none, once the stored copy is older than the configured max age).
+     */
+    private Mono<Void> enrichGames(java.util.List<RawgGame> games) {
+        java.util.List<RawgGame> candidates = games.stream()
+                .limit(enrichLimit)
+                .filter(game -> game.getId() != null)
+                .toList();
+        if (candidates.isEmpty()) {
+            return Mono.empty();
+        }
+        java.util.List<Long> ids = candidates.stream().map(RawgGame::getId).toList();
+
+        return Mono.fromCallable(() -> enrichmentRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(GameEnrichment::getRawgId, Function.identity())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("Could not read game enrichment cache: {}", e.getMessage());
+                    return Mono.just(java.util.Map.of());
+                })
+                .flatMapMany(cached -> Flux.fromIterable(candidates)
+                        .flatMap(game -> {
+                            GameEnrichment hit = cached.get(game.getId());
+                            if (isFresh(hit, game)) {
+                                game.setDescriptionRaw(hit.getDescriptionRaw());
+                                return Mono.<GameEnrichment>empty();
                             }
-                        })
-                        .onErrorResume(e -> {
-                            log.warn("Failed to enrich game {}: {}", game.getId(), e.getMessage());
-                            return Mono.empty();
-                        }))
+                            return fetchGameDetails(game);
+                        }, enrichConcurrency))
+                .collectList()
+                .flatMap(fetched -> {
+                    log.info("Enriched {} games ({} from cache, {} fetched)", candidates.size(),
+                            candidates.size() - fetched.size(), fetched.size());
+                    if (fetched.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    return Mono.fromRunnable(() -> enrichmentRepository.saveAll(fetched))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .onErrorResume(e -> {
+                                log.warn("Could not store game enrichments: {}", e.getMessage());
+                                return Mono.empty();
+                            });
+                })
                 .then();
     }
+
+    private Mono<GameEnrichment> fetchGameDetails(RawgGame game) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/games/" + game.getId())
+                        .queryParam("key", apiKey)
+                        .build())
+                .retrieve()
+                .bodyToMono(RawgGame.class)
+                .timeout(Duration.ofSeconds(5))
+                .map(details -> {
+                    game.setDescriptionRaw(details.getDescriptionRaw());
+                    // Fallback if raw description is empty
+                    if (game.getDescriptionRaw() == null || game.getDescriptionRaw().isEmpty()) {
+                        game.setDescriptionRaw(details.getDescription());
+                    }
+                    return GameEnrichment.builder()
+                            .rawgId(game.getId())
+                            .descriptionRaw(game.getDescriptionRaw())
+                            .sourceUpdated(game.getUpdated() != null ? game.getUpdated() : details.getUpdated())
+                            .fetchedAt(LocalDateTime.now())
+                            .build();
+                })
+                .onErrorResume(e -> {
+                    log.warn("Failed to enrich game {}: {}", game.getId(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean isFresh(GameEnrichment cached, RawgGame game) {
+        if (cached == null) {
+            return false;
+        }
+        if (game.getUpdated() != null) {
+            return game.getUpdated().equals(cached.getSourceUpdated());
+        }
+        return cached.getFetchedAt().isAfter(LocalDateTime.now().minus(enrichmentMaxAge));
+    }
 }
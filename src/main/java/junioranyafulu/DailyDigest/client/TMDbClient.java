@@ -16,6 +16,8 @@ import java.time.Duration;
 public class TMDbClient {
 
     private final WebClient webClient;
+    private final UpstreamJsonDecoder jsonDecoder;
+    private final TmdbEnricher tmdbEnricher;
 
     @Value("${api.tmdb.key}")
     private String apiKey;
@@ -23,144 +25,161 @@ public class TMDbClient {
     @Value("${api.tmdb.language}")
     private String language;
 
-    public TMDbClient(@Value("${api.tmdb.base-url}") String baseUrl) {
-        this.webClient = WebClient.builder()
+    @Value("${api.tmdb.enrich-concurrency:5}")
+    private int enrichConcurrency;
+
+    @Value("${api.tmdb.enrich-limit:20}")
+    private int enrichLimit;
+
+    public TMDbClient(UpstreamWebClients upstreamWebClients, UpstreamJsonDecoder jsonDecoder, TmdbEnricher tmdbEnricher,
+            @Value("${api.tmdb.base-url}") String baseUrl) {
+        this.jsonDecoder = jsonDecoder;
+        this.tmdbEnricher = tmdbEnricher;
+        this.webClient = upstreamWebClients.builder()
                 .baseUrl(java.util.Objects.requireNonNull(baseUrl))
                 .build();
     }
 
-    @Cacheable("movies")
+    @Cacheable(cacheNames = "movies", sync = true)
     public TmdbMovieResponse getTrendingMovies() {
-        log.info("Fetching trending movies from TMDb");
-
         try {
-            TmdbMovieResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/trending/movie/day")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("language", language)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(TmdbMovieResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
-
-            if (response != null && response.getResults() != null) {
-                enrichMovies(response.getResults());
-            }
-
-            return response;
+            return fetchTrendingMovies().block();
         } catch (Exception e) {
             log.error("Exception while fetching trending movies", e);
             return TmdbMovieResponse.builder().build();
         }
     }
 
-    @Cacheable("tv_shows")
-    public TmdbTVResponse getTrendingTVShows() {
-        log.info("Fetching trending TV shows from TMDb");
-
-        try {
-            TmdbTVResponse response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/trending/tv/day")
-                            .queryParam("api_key", apiKey)
-                            .queryParam("language", language)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(TmdbTVResponse.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
+    public Mono<TmdbMovieResponse> fetchTrendingMovies() {
+        log.info("Fetching trending movies from TMDb");
 
-            if (response != null && response.getResults() != null) {
-                enrichTVShows(response.getResults());
-            }
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/trending/movie/day")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("language", language)
+                        .build())
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(jsonDecoder::decodeTmdbMovies)
+                .timeout(Duration.ofSeconds(10))
+                .flatMap(response -> {
+                    if (response.getResults() != null) {
+                        return enrichMovies(response.getResults()).thenReturn(response);
+                    }
+                    return Mono.just(response);
+                })
+                .doOnError(error -> log.error("Error fetching trending movies: {}", error.getMessage()))
+                .onErrorResume(e -> Mono.just(TmdbMovieResponse.builder().build()))
+                .defaultIfEmpty(TmdbMovieResponse.builder().build());
+    }
 
-            return response;
+    @Cacheable(cacheNames = "tv_shows", sync = true)
+    public TmdbTVResponse getTrendingTVShows() {
+        try {
+            return fetchTrendingTVShows().block();
         } catch (Exception e) {
             log.error("Exception while fetching trending TV shows", e);
             return TmdbTVResponse.builder().build();
         }
     }
 
-    private void enrichMovies(java.util.List<junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie> movies) {
-        // Limit to top 5 to avoid rate limits and improve performance
-        movies.stream().limit(5).parallel().forEach(movie -> {
-            try {
-                junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse details = webClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/movie/" + movie.getId())
-                                .queryParam("api_key", apiKey)
-                                .queryParam("append_to_response", "videos,credits")
-                                .build())
-                        .retrieve()
-                        .bodyToMono(junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse.class)
-                        .timeout(Duration.ofSeconds(5))
-                        .onErrorResume(e -> Mono.empty())
-                        .block();
-
-                if (details != null) {
-                    // Extract trailer
-                    if (details.getVideos() != null && details.getVideos().getResults() != null) {
-                        details.getVideos().getResults().stream()
-                                .filter(v -> "YouTube".equals(v.getSite()) && "Trailer".equals(v.getType()))
-                                .findFirst()
-                                .ifPresent(v -> movie.setTrailerKey(v.getKey()));
-                    }
+    public Mono<TmdbTVResponse> fetchTrendingTVShows() {
+        log.info("Fetching trending TV shows from TMDb");
 
-                    // Extract cast (top 3)
-                    if (details.getCredits() != null && details.getCredits().getCast() != null) {
-                        java.util.List<String> castNames = details.getCredits().getCast().stream()
-                                .limit(3)
-                                .map(junioranyafulu.DailyDigest.dto.tmdb.TmdbCreditsResponse.TmdbCast::getName)
-                                .collect(java.util.stream.Collectors.toList());
-                        movie.setCast(castNames);
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/trending/tv/day")
+                        .queryParam("api_key", apiKey)
+                        .queryParam("language", language)
+                        .build())
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(jsonDecoder::decodeTmdbTV)
+                .timeout(Duration.ofSeconds(10))
+                .flatMap(response -> {
+                    if (response.getResults() != null) {
+                        return enrichTVShows(response.getResults()).thenReturn(response);
                     }
-                }
-            } catch (Exception e) {
-                log.warn("Failed to enrich movie {}: {}", movie.getId(), e.getMessage());
-            }
-        });
+                    return Mono.just(response);
+                })
+                .doOnError(error -> log.error("Error fetching trending TV shows: {}", error.getMessage()))
+                .onErrorResume(e -> Mono.just(TmdbTVResponse.builder().build()))
+                .defaultIfEmpty(TmdbTVResponse.builder().build());
     }
 
-    private void enrichTVShows(java.util.List<junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow> shows) {
-        // Limit to top 5
-        shows.stream().limit(5).parallel().forEach(show -> {
-            try {
-                junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse details = webClient.get()
-                        .uri(uriBuilder -> uriBuilder
-                                .path("/tv/" + show.getId())
-                                .queryParam("api_key", apiKey)
-                                .queryParam("append_to_response", "videos,credits")
-                                .build())
-                        .retrieve()
-                        .bodyToMono(junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse.class)
-                        .timeout(Duration.ofSeconds(5))
-                        .onErrorResume(e -> Mono.empty())
-                        .block();
-
-                if (details != null) {
-                    // Extract trailer
-                    if (details.getVideos() != null && details.getVideos().getResults() != null) {
-                        details.getVideos().getResults().stream()
-                                .filter(v -> "YouTube".equals(v.getSite()) && "Trailer".equals(v.getType()))
-                                .findFirst()
-                                .ifPresent(v -> show.setTrailerKey(v.getKey()));
-                    }
+    private Mono<Void> enrichMovies(java.util.List<junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie> movies) {
+        // Detail calls are composed on the event loop rather than blocking a pool thread each;
+        // the enricher caches, coalesces and rate-limits them
+        return reactor.core.publisher.Flux.fromIterable(movies)
+                .take(enrichLimit)
+                .flatMap(movie -> tmdbEnricher.details("movie", movie.getId(),
+                        () -> fetchDetails("/movie/" + movie.getId()))
+                        .doOnNext(details -> {
+                            movie.setTrailerKey(extractTrailerKey(details));
+                            java.util.List<String> cast = extractCast(details);
+                            if (cast != null) {
+                                movie.setCast(cast);
+                            }
+                        })
+                        .onErrorResume(e -> {
+                            log.warn("Failed to enrich movie {}: {}", movie.getId(), e.getMessage());
+                            return Mono.empty();
+                        }), enrichConcurrency)
+                .then();
+    }
 
-                    // Extract cast (top 3)
-                    if (details.getCredits() != null && details.getCredits().getCast() != null) {
-                        java.util.List<String> castNames = details.getCredits().getCast().stream()
-                                .limit(3)
-                                .map(junioranyafulu.DailyDigest.dto.tmdb.TmdbCreditsResponse.TmdbCast::getName)
-                                .collect(java.util.stream.Collectors.toList());
-                        show.setCast(castNames);
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("Failed to enrich TV show {}: {}", show.getId(), e.getMessage());
-            }
-        });
+    private Mono<Void> enrichTVShows(java.util.List<junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow> shows) {
+        return reactor.core.publisher.Flux.fromIterable(shows)
+                .take(enrichLimit)
+                .flatMap(show -> tmdbEnricher.details("tv", show.getId(),
+                        () -> fetchDetails("/tv/" + show.getId()))
+                        .doOnNext(details -> {
+                            show.setTrailerKey(extractTrailerKey(details));
+                            java.util.List<String> cast = extractCast(details);
+                            if (cast != null) {
+                                show.setCast(cast);
+                            }
+                        })
+                        .onErrorResume(e -> {
+                            log.warn("Failed to enrich TV show {}: {}", show.getId(), e.getMessage());
+                            return Mono.empty();
+                        }), enrichConcurrency)
+                .then();
+    }
+
+    private Mono<junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse> fetchDetails(String path) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(path)
+                        .queryParam("api_key", apiKey)
+                        .queryParam("append_to_response", "videos,credits")
+                        .build())
+                .retrieve()
+                .bodyToMono(junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse.class)
+                .timeout(Duration.ofSeconds(5));
+    }
+
+    private static String extractTrailerKey(junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse details) {
+        if (details.getVideos() == null || details.getVideos().getResults() == null) {
+            return null;
+        }
+        return details.getVideos().getResults().stream()
+                .filter(v -> "YouTube".equals(v.getSite()) && "Trailer".equals(v.getType()))
+                .findFirst()
+                .map(junioranyafulu.DailyDigest.dto.tmdb.TmdbVideosResponse.TmdbVideo::getKey)
+                .orElse(null);
+    }
+
+    private static java.util.List<String> extractCast(junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse details) {
+        if (details.getCredits() == null || details.getCredits().getCast() == null) {
+            return null;
+        }
+        // Top 3 billed cast members
+        return details.getCredits().getCast().stream()
+                .limit(3)
+                .map(junioranyafulu.DailyDigest.dto.tmdb.TmdbCreditsResponse.TmdbCast::getName)
+                .collect(java.util.stream.Collectors.toList());
     }
 
     public TmdbMovieResponse getUpcomingMovies() {
@@ -0,0 +1,66 @@
+package junioranyafulu.DailyDigest.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shared front for TMDb detail lookups ({@code /movie/{id}}, {@code /tv/{id}}). Concurrent
+ * requests for the same title are coalesced into one call, results are cached for a TTL since
+ * cast and trailer keys rarely change, and every call that does reach TMDb passes through a
+ * token bucket sized to TMDb's rate limit.
+ */
+@Component
+public class TmdbEnricher {
+
+    private final TokenBucket rateLimiter;
+    private final Cache<String, TmdbDetailsResponse> cache;
+    private final Map<String, Mono<TmdbDetailsResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TmdbEnricher(
+            @Value("${api.tmdb.rate-limit.requests-per-second:40}") double requestsPerSecond,
+            @Value("${api.tmdb.rate-limit.burst:20}") long burst,
+            @Value("${api.tmdb.details-cache.ttl:PT24H}") Duration ttl,
+            @Value("${api.tmdb.details-cache.max-entries:2000}") int maxEntries) {
+        this(new TokenBucket(burst, requestsPerSecond), ttl, maxEntries);
+    }
+
+    TmdbEnricher(TokenBucket rateLimiter, Duration ttl, int maxEntries) {
+        this.rateLimiter = rateLimiter;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the details for a title, from the cache, from an identical call already in
+     * flight, or by invoking {@code loader} once a rate-limit token is available. Nothing is
+     * looked up and no token is taken until the returned {@code Mono} is subscribed.
+     */
+    public Mono<TmdbDetailsResponse> details(String mediaType, Long id, Supplier<Mono<TmdbDetailsResponse>> loader) {
+        String key = mediaType + ":" + id;
+        return Mono.defer(() -> {
+            TmdbDetailsResponse cached = cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return inFlight.computeIfAbsent(key, k -> Mono.defer(rateLimiter::acquire)
+                    .then(Mono.defer(loader))
+                    .doOnNext(details -> cache.put(k, details))
+                    .doFinally(signal -> inFlight.remove(k))
+                    .cache());
+        });
+    }
+}
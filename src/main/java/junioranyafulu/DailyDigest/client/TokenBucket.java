@@ -0,0 +1,57 @@
+package junioranyafulu.DailyDigest.client;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Non-blocking token bucket. Callers reserve a token and are delayed until it is available,
+ * so a burst of requests is spread out to the configured rate instead of being rejected.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(long capacity, double tokensPerSecond) {
+        this(capacity, tokensPerSecond, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock monotonic time source in nanoseconds, {@link System#nanoTime()} outside tests
+     */
+    TokenBucket(long capacity, double tokensPerSecond, LongSupplier nanoClock) {
+        if (capacity <= 0 || tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket capacity and rate must be positive");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Completes once a token has been granted to the caller.
+     */
+    public Mono<Void> acquire() {
+        long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return Mono.empty();
+        }
+        return Mono.delay(Duration.ofNanos(waitNanos)).then();
+    }
+
+    synchronized long reserve() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        tokens -= 1;
+        // A negative balance is the debt later callers wait out
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerNano);
+    }
+}
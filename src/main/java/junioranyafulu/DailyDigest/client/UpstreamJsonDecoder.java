@@ -0,0 +1,241 @@
+package junioranyafulu.DailyDigest.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGame;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovieResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming decoder for the RAWG and TMDb list responses. Only the fields the digest ranks
+ * and renders are materialised; everything else ({@code tags}, {@code stores},
+ * {@code short_screenshots}, {@code platforms}, ...) is skipped token by token instead of
+ * being bound into objects that are thrown away.
+ */
+@Component
+public class UpstreamJsonDecoder {
+
+    private final JsonFactory jsonFactory;
+
+    @Autowired
+    public UpstreamJsonDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public RawgGamesResponse decodeRawgGames(byte[] json) {
+        RawgGamesResponse response = RawgGamesResponse.builder().build();
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return response;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "count" -> response.setCount(intValue(parser, value));
+                    case "next" -> response.setNext(textValue(parser, value));
+                    case "previous" -> response.setPrevious(textValue(parser, value));
+                    case "results" -> response.setResults(readArray(parser, value, this::readGame));
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode RAWG games response", e);
+        }
+        return response;
+    }
+
+    public TmdbMovieResponse decodeTmdbMovies(byte[] json) {
+        TmdbMovieResponse response = TmdbMovieResponse.builder().build();
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return response;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "page" -> response.setPage(intValue(parser, value));
+                    case "total_pages" -> response.setTotalPages(intValue(parser, value));
+                    case "total_results" -> response.setTotalResults(intValue(parser, value));
+                    case "results" -> response.setResults(readArray(parser, value, this::readMovie));
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode TMDb movie response", e);
+        }
+        return response;
+    }
+
+    public TmdbTVResponse decodeTmdbTV(byte[] json) {
+        TmdbTVResponse response = TmdbTVResponse.builder().build();
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return response;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "page" -> response.setPage(intValue(parser, value));
+                    case "total_pages" -> response.setTotalPages(intValue(parser, value));
+                    case "total_results" -> response.setTotalResults(intValue(parser, value));
+                    case "results" -> response.setResults(readArray(parser, value, this::readTVShow));
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode TMDb TV response", e);
+        }
+        return response;
+    }
+
+    private RawgGame readGame(JsonParser parser) throws IOException {
+        RawgGame game = new RawgGame();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> game.setId(longValue(parser, value));
+                case "name" -> game.setName(textValue(parser, value));
+                case "slug" -> game.setSlug(textValue(parser, value));
+                case "released" -> game.setReleased(textValue(parser, value));
+                case "background_image" -> game.setBackgroundImage(textValue(parser, value));
+                case "rating" -> game.setRating(doubleValue(parser, value));
+                case "rating_top" -> game.setRatingTop(intValue(parser, value));
+                case "ratings_count" -> game.setRatingsCount(intValue(parser, value));
+                case "metacritic" -> game.setMetacritic(intValue(parser, value));
+                case "updated" -> game.setUpdated(textValue(parser, value));
+                case "genres" -> game.setGenres(readArray(parser, value, this::readGenre));
+                default -> parser.skipChildren();
+            }
+        }
+        return game;
+    }
+
+    private RawgGame.Genre readGenre(JsonParser parser) throws IOException {
+        RawgGame.Genre genre = new RawgGame.Genre();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> genre.setId(longValue(parser, value));
+                case "name" -> genre.setName(textValue(parser, value));
+                case "slug" -> genre.setSlug(textValue(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+        return genre;
+    }
+
+    private TmdbMovie readMovie(JsonParser parser) throws IOException {
+        TmdbMovie movie = new TmdbMovie();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> movie.setId(longValue(parser, value));
+                case "title" -> movie.setTitle(textValue(parser, value));
+                case "overview" -> movie.setOverview(textValue(parser, value));
+                case "poster_path" -> movie.setPosterPath(textValue(parser, value));
+                case "release_date" -> movie.setReleaseDate(textValue(parser, value));
+                case "vote_average" -> movie.setVoteAverage(doubleValue(parser, value));
+                case "vote_count" -> movie.setVoteCount(intValue(parser, value));
+                case "popularity" -> movie.setPopularity(doubleValue(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+        return movie;
+    }
+
+    private TmdbTVShow readTVShow(JsonParser parser) throws IOException {
+        TmdbTVShow show = new TmdbTVShow();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> show.setId(longValue(parser, value));
+                case "name" -> show.setName(textValue(parser, value));
+                case "overview" -> show.setOverview(textValue(parser, value));
+                case "poster_path" -> show.setPosterPath(textValue(parser, value));
+                case "first_air_date" -> show.setFirstAirDate(textValue(parser, value));
+                case "vote_average" -> show.setVoteAverage(doubleValue(parser, value));
+                case "vote_count" -> show.setVoteCount(intValue(parser, value));
+                case "popularity" -> show.setPopularity(doubleValue(parser, value));
+                default -> parser.skipChildren();
+            }
+        }
+        return show;
+    }
+
+    private static <T> List<T> readArray(JsonParser parser, JsonToken token, ElementReader<T> reader)
+            throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        List<T> items = new ArrayList<>();
+        JsonToken next;
+        while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (next == JsonToken.START_OBJECT) {
+                items.add(reader.read(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return items;
+    }
+
+    private static String textValue(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+
+    private static Integer intValue(JsonParser parser, JsonToken token) throws IOException {
+        if (!token.isNumeric()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getIntValue();
+    }
+
+    private static Long longValue(JsonParser parser, JsonToken token) throws IOException {
+        if (!token.isNumeric()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getLongValue();
+    }
+
+    private static Double doubleValue(JsonParser parser, JsonToken token) throws IOException {
+        if (!token.isNumeric()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getDoubleValue();
+    }
+
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+}
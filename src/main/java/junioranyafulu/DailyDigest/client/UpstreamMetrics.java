@@ -0,0 +1,116 @@
+package junioranyafulu.DailyDigest.client;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Times every call made through the {@link UpstreamWebClients} builder as
+ * {@code digest.upstream.requests}, tagged with the upstream (matched on the configured base
+ * URLs), the endpoint relative to the base URL with numeric ids replaced by {@code {id}}, and
+ * the outcome. The timer stops once the body has been read, so slow or streamed bodies count
+ * in full; the body size is recorded as {@code digest.upstream.response.size}.
+ */
+@Component
+public class UpstreamMetrics implements ExchangeFilterFunction {
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MeterRegistry registry;
+    private final List<Upstream> upstreams;
+
+    @Autowired
+    public UpstreamMetrics(
+            MeterRegistry registry,
+            @Value("${api.newsapi.base-url}") String newsApiBaseUrl,
+            @Value("${api.tmdb.base-url}") String tmdbBaseUrl,
+            @Value("${api.rawg.base-url}") String rawgBaseUrl) {
+        this.registry = registry;
+        this.upstreams = List.of(Upstream.of("newsapi", newsApiBaseUrl), Upstream.of("tmdb", tmdbBaseUrl),
+                Upstream.of("rawg", rawgBaseUrl));
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String url = request.url().toString();
+        Upstream upstream = upstreams.stream()
+                .filter(candidate -> url.startsWith(candidate.baseUrl()))
+                .findFirst()
+                .orElse(null);
+        String source = upstream != null ? upstream.name() : "other";
+        String path = request.url().getRawPath();
+        if (upstream != null && path.startsWith(upstream.basePath())) {
+            path = path.substring(upstream.basePath().length());
+        }
+        String endpoint = NUMERIC_SEGMENT.matcher(path).replaceAll("/{id}");
+        String method = request.method().name();
+
+        long start = System.nanoTime();
+        return next.exchange(request)
+                .map(response -> {
+                    String outcome = Outcome.forStatus(response.statusCode().value()).name();
+                    AtomicLong bytes = new AtomicLong();
+                    return response.mutate()
+                            .body(body -> body
+                                    .doOnNext(buffer -> bytes.addAndGet(buffer.readableByteCount()))
+                                    .doFinally(signal -> {
+                                        record(source, endpoint, method, outcome(signal, outcome), start);
+                                        DistributionSummary.builder("digest.upstream.response.size")
+                                                .baseUnit(BaseUnits.BYTES)
+                                                .tag("source", source)
+                                                .tag("endpoint", endpoint)
+                                                .register(registry)
+                                                .record(bytes.get());
+                                    }))
+                            .build();
+                })
+                .doOnError(e -> record(source, endpoint, method,
+                        e instanceof TimeoutException ? "TIMEOUT" : "IO_ERROR", start))
+                .doOnCancel(() -> record(source, endpoint, method, "CANCELLED", start));
+    }
+
+    private void record(String source, String endpoint, String method, String outcome, long startNanos) {
+        Timer.builder("digest.upstream.requests")
+                .tag("source", source)
+                .tag("endpoint", endpoint)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String outcome(SignalType signal, String statusOutcome) {
+        return switch (signal) {
+            case ON_ERROR -> "IO_ERROR";
+            case CANCEL -> "CANCELLED";
+            default -> statusOutcome;
+        };
+    }
+
+    private record Upstream(String name, String baseUrl, String basePath) {
+
+        static Upstream of(String name, String baseUrl) {
+            String normalized = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+            String basePath = URI.create(normalized).getRawPath();
+            return new Upstream(name, normalized, basePath != null ? basePath : "");
+        }
+    }
+}
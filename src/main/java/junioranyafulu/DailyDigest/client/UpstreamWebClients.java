@@ -0,0 +1,22 @@
+package junioranyafulu.DailyDigest.client;
+
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Hands out the {@code WebClient.Builder} for the NewsAPI, TMDb and RAWG clients: Spring
+ * Boot's builder plus the pooled upstream connector, codec limits and {@link UpstreamMetrics}.
+ * These are deliberately not applied to Boot's shared builder, which Spring AI also uses for
+ * Ollama, where a cold model can take far longer than an upstream read timeout to answer.
+ */
+public class UpstreamWebClients {
+
+    private final WebClient.Builder template;
+
+    public UpstreamWebClients(WebClient.Builder template) {
+        this.template = template;
+    }
+
+    public WebClient.Builder builder() {
+        return template.clone();
+    }
+}
@@ -0,0 +1,114 @@
+package junioranyafulu.DailyDigest.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import junioranyafulu.DailyDigest.dto.NewsApiResponse;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovieResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVResponse;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Caffeine-backed caches for the upstream source responses. Every cache is bounded and
+ * records statistics, which Boot binds as the {@code cache.*} meters. A good response lives
+ * until the scheduled generation after the one it was fetched for (capped at the configured
+ * TTL), so the refresh-ahead run shortly before the cron fires feeds that generation; an
+ * empty response from an error path is only kept for the short negative TTL.
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final List<String> SOURCE_CACHES = List.of("news", "movies", "tv_shows", "games");
+
+    @Bean
+    public CacheManager cacheManager(Environment environment) {
+        CronExpression generationCron = CronExpression.parse(
+                environment.getProperty("digest.scheduling.cron", "0 0 8 * * *"));
+        Duration refreshLead = environment.getProperty("digest.cache.sources.refresh-lead", Duration.class,
+                Duration.ofMinutes(15));
+        Duration negativeTtl = environment.getProperty("digest.cache.sources.negative-ttl", Duration.class,
+                Duration.ofMinutes(5));
+        long maxSize = environment.getProperty("digest.cache.sources.max-size", Long.class, 100L);
+
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(true);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .recordStats());
+
+        for (String name : SOURCE_CACHES) {
+            Duration maxTtl = environment.getProperty("digest.cache.sources." + name + ".ttl", Duration.class,
+                    environment.getProperty("digest.cache.sources.ttl", Duration.class, Duration.ofHours(25)));
+
+            cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .expireAfter(new SourceExpiry(generationCron, refreshLead, maxTtl, negativeTtl))
+                    .recordStats()
+                    .build());
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Returns {@code true} for the empty responses the clients produce on error paths, which
+     * must not be served for a whole day.
+     */
+    public static boolean isNegative(Object value) {
+        if (value == null || value instanceof NullValue) {
+            return true;
+        }
+        if (value instanceof NewsApiResponse news) {
+            return news.getArticles() == null || news.getArticles().isEmpty();
+        }
+        if (value instanceof TmdbMovieResponse movies) {
+            return movies.getResults() == null || movies.getResults().isEmpty();
+        }
+        if (value instanceof TmdbTVResponse shows) {
+            return shows.getResults() == null || shows.getResults().isEmpty();
+        }
+        if (value instanceof RawgGamesResponse games) {
+            return games.getResults() == null || games.getResults().isEmpty();
+        }
+        return false;
+    }
+
+    private record SourceExpiry(CronExpression generationCron, Duration refreshLead, Duration maxTtl,
+            Duration negativeTtl) implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            if (isNegative(value)) {
+                return negativeTtl.toNanos();
+            }
+            // Skip the run that is about to start so a refresh-ahead entry survives it
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime nextRun = generationCron.next(now.plus(refreshLead));
+            if (nextRun == null) {
+                return maxTtl.toNanos();
+            }
+            Duration untilNextRun = Duration.between(now, nextRun);
+            return (untilNextRun.compareTo(maxTtl) < 0 ? untilNextRun : maxTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
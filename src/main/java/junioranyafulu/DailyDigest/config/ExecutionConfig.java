@@ -0,0 +1,31 @@
+package junioranyafulu.DailyDigest.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@Slf4j
+public class ExecutionConfig {
+
+    /**
+     * Executor for the blocking outbound I/O of the generation pipeline. Virtual threads by
+     * default, so a blocked upstream call costs a cheap continuation instead of a carrier
+     * thread and never competes with the common ForkJoinPool.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService generationIoExecutor(
+            @Value("${digest.execution.virtual-threads:true}") boolean virtualThreads,
+            @Value("${digest.execution.platform-pool-size:16}") int platformPoolSize) {
+        if (virtualThreads) {
+            log.info("Using virtual threads for generation I/O");
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("digest-io-", 0).factory());
+        }
+        log.info("Using a fixed pool of {} platform threads for generation I/O", platformPoolSize);
+        return Executors.newFixedThreadPool(platformPoolSize, Thread.ofPlatform().name("digest-io-", 0).factory());
+    }
+}
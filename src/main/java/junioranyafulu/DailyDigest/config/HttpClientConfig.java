@@ -0,0 +1,75 @@
+package junioranyafulu.DailyDigest.config;
+
+import io.netty.channel.ChannelOption;
+import junioranyafulu.DailyDigest.client.ConnectionPoolMeters;
+import junioranyafulu.DailyDigest.client.UpstreamMetrics;
+import junioranyafulu.DailyDigest.client.UpstreamWebClients;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Shared HTTP client for the NewsAPI, TMDb and RAWG clients, exposed through
+ * {@link UpstreamWebClients} rather than as Boot-wide connector and customizers, so other
+ * users of {@code WebClient.Builder} (Spring AI's Ollama client) keep the defaults.
+ */
+@Configuration
+@Slf4j
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(
+            ConnectionPoolMeters connectionPoolMeters,
+            @Value("${api.http.max-connections-per-host:50}") int maxConnections,
+            @Value("${api.http.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${api.http.pending-acquire-timeout:PT10S}") Duration pendingAcquireTimeout,
+            @Value("${api.http.max-idle-time:PT30S}") Duration maxIdleTime,
+            @Value("${api.http.max-life-time:PT5M}") Duration maxLifeTime) {
+        // Reactor Netty keeps one pool per remote host, so maxConnections is a per-host limit
+        return ConnectionProvider.builder("upstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(maxIdleTime)
+                .metrics(true, () -> connectionPoolMeters)
+                .build();
+    }
+
+    @Bean
+    public UpstreamWebClients upstreamWebClients(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider upstreamConnectionProvider,
+            UpstreamMetrics upstreamMetrics,
+            @Value("${api.http.connect-timeout:PT5S}") Duration connectTimeout,
+            @Value("${api.http.read-timeout:PT15S}") Duration readTimeout,
+            @Value("${api.http.http2:true}") boolean http2,
+            @Value("${api.http.max-in-memory-size:4MB}") DataSize maxInMemorySize) {
+        HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(readTimeout)
+                .compress(true);
+        if (http2) {
+            // HTTP/2 is negotiated via ALPN on TLS connections; plain HTTP stays on 1.1
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+        log.info("Configured shared upstream HTTP client (http2={}, connectTimeout={}, readTimeout={})",
+                http2, connectTimeout, readTimeout);
+        // Boot's builder is a prototype bean, so this instance is ours to configure
+        return new UpstreamWebClients(webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxInMemorySize.toBytes()))
+                .filter(upstreamMetrics));
+    }
+}
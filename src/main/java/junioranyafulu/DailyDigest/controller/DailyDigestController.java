@@ -1,52 +1,128 @@
 package junioranyafulu.DailyDigest.controller;
 
 import junioranyafulu.DailyDigest.domain.Digest;
+import junioranyafulu.DailyDigest.domain.DigestMetadata;
+import junioranyafulu.DailyDigest.dto.DigestMetadataResponse;
 import junioranyafulu.DailyDigest.service.DailyDigestService;
+import junioranyafulu.DailyDigest.service.ReactiveDigestService;
+import junioranyafulu.DailyDigest.service.RenderedEdition;
+import junioranyafulu.DailyDigest.service.SummaryStreamService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.ZoneId;
 
 @RestController
 @RequestMapping("/api/v1/digest")
 public class DailyDigestController {
 
     private final DailyDigestService dailyDigestService;
+    private final ReactiveDigestService reactiveDigestService;
+    private final SummaryStreamService summaryStreamService;
 
     @Autowired
-    public DailyDigestController(DailyDigestService dailyDigestService) {
+    public DailyDigestController(DailyDigestService dailyDigestService,
+            ReactiveDigestService reactiveDigestService,
+            SummaryStreamService summaryStreamService) {
         this.dailyDigestService = dailyDigestService;
+        this.reactiveDigestService = reactiveDigestService;
+        this.summaryStreamService = summaryStreamService;
     }
 
     @GetMapping(value = "/latest", produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Digest> getLatestDigest() {
-        Digest digest = dailyDigestService.getLatestDigest();
-        return ResponseEntity.ok(digest);
+    public ResponseEntity<Digest> getLatestDigest(WebRequest request) {
+        DigestMetadata metadata = dailyDigestService.getLatestDigestMetadata();
+        if (isNotModified(request, metadata, "json")) {
+            return null;
+        }
+        return ok(dailyDigestService.getLatestDigest());
+    }
+
+    @GetMapping(value = "/latest/meta", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DigestMetadataResponse> getLatestDigestMetadata(WebRequest request) {
+        DigestMetadata metadata = dailyDigestService.getLatestDigestMetadata();
+        if (isNotModified(request, metadata, "meta")) {
+            return null;
+        }
+        return ok(DigestMetadataResponse.from(metadata));
+    }
+
+    @GetMapping(value = "/latest/fields/{field}")
+    public ResponseEntity<String> getLatestDigestField(@PathVariable String field, WebRequest request) {
+        MediaType contentType = fieldContentType(field);
+        DigestMetadata metadata = dailyDigestService.getLatestDigestMetadata();
+        if (isNotModified(request, metadata, field)) {
+            return null;
+        }
+        String value = dailyDigestService.getDigestField(metadata.getId(), field);
+        if (value == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .contentType(contentType)
+                .body(value);
     }
 
     @GetMapping(value = "/latest/html", produces = MediaType.TEXT_HTML_VALUE)
-    public ResponseEntity<String> getLatestDigestHtml(
-            @RequestParam(value = "type", defaultValue = "all") String type) {
-        Digest digest = dailyDigestService.getLatestDigest();
-        return ResponseEntity.ok(dailyDigestService.getDigestHtml(digest, type));
+    public ResponseEntity<byte[]> getLatestDigestHtml(
+            @RequestParam(value = "type", defaultValue = "all") String type,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        DigestMetadata metadata = dailyDigestService.getLatestDigestMetadata();
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (isNotModified(request, metadata, htmlVariant(type, gzip))) {
+            return null;
+        }
+        return html(dailyDigestService.getRenderedEdition(metadata, type), gzip);
+    }
+
+    /**
+     * Server-sent events with the summary as it is being generated ({@code markdown} chunks,
+     * periodic {@code html} renders, then {@code done}); outside a generation, the stored
+     * summary of the latest digest.
+     */
+    @GetMapping(value = "/latest/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamLatestSummary() {
+        return summaryStreamService.events(() -> dailyDigestService.getDigestField(
+                dailyDigestService.getLatestDigestMetadata().getId(), "summary"));
     }
 
     @GetMapping(value = "/date/{date}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<Digest> getDigestByDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
-        Digest digest = dailyDigestService.getDigestByDate(date);
-        return ResponseEntity.ok(digest);
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest request) {
+        DigestMetadata metadata = dailyDigestService.getDigestMetadataByDate(date);
+        if (isNotModified(request, metadata, "json")) {
+            return null;
+        }
+        Digest digest = dailyDigestService.getDigest(metadata.getId());
+        return ok(digest);
     }
 
     @GetMapping(value = "/date/{date}/html", produces = MediaType.TEXT_HTML_VALUE)
-    public ResponseEntity<String> getDigestByDateHtml(
+    public ResponseEntity<byte[]> getDigestByDateHtml(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
-            @RequestParam(value = "type", defaultValue = "all") String type) {
-        Digest digest = dailyDigestService.getDigestByDate(date);
-        return ResponseEntity.ok(dailyDigestService.getDigestHtml(digest, type));
+            @RequestParam(value = "type", defaultValue = "all") String type,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest request) {
+        DigestMetadata metadata = dailyDigestService.getDigestMetadataByDate(date);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        if (isNotModified(request, metadata, htmlVariant(type, gzip))) {
+            return null;
+        }
+        return html(dailyDigestService.getRenderedEdition(metadata, type), gzip);
     }
 
     @PostMapping(value = "/generate", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -54,4 +130,93 @@ public class DailyDigestController {
         Digest digest = dailyDigestService.generateDailyDigest();
         return ResponseEntity.ok(digest);
     }
+
+    @PostMapping(value = "/generate/reactive", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Digest> generateDigestReactive() {
+        return reactiveDigestService.generateDailyDigest();
+    }
+
+    /**
+     * Evaluates If-None-Match / If-Modified-Since against the digest version. Also sets the
+     * ETag and Last-Modified headers on the response, so a {@code true} result means a 304
+     * has already been prepared and the handler should return {@code null}.
+     */
+    private boolean isNotModified(WebRequest request, DigestMetadata metadata, String variant) {
+        return request.checkNotModified(etag(metadata, variant), lastModified(metadata));
+    }
+
+    private static String etag(DigestMetadata metadata, String variant) {
+        String safeVariant = variant.toLowerCase().replaceAll("[^a-z0-9-]", "");
+        return "\"" + metadata.getId() + "-" + Long.toHexString(lastModified(metadata)) + "-" + safeVariant + "\"";
+    }
+
+    /**
+     * The gzip and identity bodies of an edition are different representations, so each gets
+     * its own strong validator ({@code ...-all-gz} vs {@code ...-all}).
+     */
+    private static String htmlVariant(String edition, boolean gzip) {
+        String safeEdition = edition.toLowerCase().replaceAll("[^a-z0-9]", "");
+        return gzip ? safeEdition + "-gz" : safeEdition;
+    }
+
+    private static long lastModified(DigestMetadata metadata) {
+        if (metadata.getUpdatedAt() == null) {
+            return -1L;
+        }
+        return metadata.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static MediaType fieldContentType(String field) {
+        return switch (field.toLowerCase()) {
+            // Raw fields are stored as serialized JSON and are passed through as-is
+            case "games", "movies", "tv", "timings" -> MediaType.APPLICATION_JSON;
+            case "summary" -> new MediaType("text", "markdown", StandardCharsets.UTF_8);
+            default -> throw new IllegalArgumentException("Unknown digest field: " + field);
+        };
+    }
+
+    /**
+     * Serves the pre-compressed gzip bytes when the client accepts them, the plain UTF-8
+     * bytes otherwise. Nothing is compressed on the request path.
+     */
+    private static ResponseEntity<byte[]> html(RenderedEdition rendered, boolean gzip) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8));
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(rendered.gzip());
+        }
+        return builder.body(rendered.identity());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!"gzip".equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            boolean rejected = false;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim().replace(" ", "");
+                if (param.matches("q=0(\\.0*)?")) {
+                    rejected = true;
+                }
+            }
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> ResponseEntity<T> ok(T body) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(body);
+    }
 }
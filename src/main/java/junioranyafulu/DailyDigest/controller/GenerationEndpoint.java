@@ -0,0 +1,54 @@
+package junioranyafulu.DailyDigest.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junioranyafulu.DailyDigest.repository.DigestRepository;
+import junioranyafulu.DailyDigest.service.GenerationMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/generation}: the stage breakdown of the last run of each pipeline, and
+ * {@code /actuator/generation/{digestId}} for the breakdown stored with a digest.
+ */
+@Component
+@Endpoint(id = "generation")
+public class GenerationEndpoint {
+
+    private final GenerationMetrics generationMetrics;
+    private final DigestRepository digestRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public GenerationEndpoint(GenerationMetrics generationMetrics, DigestRepository digestRepository,
+            ObjectMapper objectMapper) {
+        this.generationMetrics = generationMetrics;
+        this.digestRepository = digestRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @ReadOperation
+    public Map<String, GenerationMetrics.Run> lastRuns() {
+        return generationMetrics.lastRuns();
+    }
+
+    /**
+     * Returns {@code null} (a 404) when the digest does not exist or predates timing capture.
+     */
+    @ReadOperation
+    public Map<String, Long> digestTimings(@Selector Long digestId) throws JsonProcessingException {
+        String timings = digestRepository.findTimingsById(digestId).orElse(null);
+        if (timings == null) {
+            return null;
+        }
+        return objectMapper.readValue(timings, new TypeReference<LinkedHashMap<String, Long>>() {
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package junioranyafulu.DailyDigest.controller;
+
+import junioranyafulu.DailyDigest.service.ScoringModels;
+import junioranyafulu.DailyDigest.service.ScoringWeights;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.jmx.annotation.JmxEndpoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * The active ranking model and the weights of every configured model; {@code activate(model)}
+ * switches the model used by the next generation. A JMX-only endpoint
+ * ({@code org.springframework.boot:type=Endpoint,name=Ranking}): the application has no
+ * security on the web actuator, so the write operation is kept off HTTP.
+ */
+@Component
+@JmxEndpoint(id = "ranking")
+public class RankingEndpoint {
+
+    private final ScoringModels scoringModels;
+
+    @Autowired
+    public RankingEndpoint(ScoringModels scoringModels) {
+        this.scoringModels = scoringModels;
+    }
+
+    @ReadOperation
+    public RankingModels models() {
+        return new RankingModels(scoringModels.activeName(), scoringModels.configs());
+    }
+
+    @WriteOperation
+    public RankingModels activate(String model) {
+        try {
+            scoringModels.activate(model);
+        } catch (IllegalArgumentException e) {
+            // Reported to the JMX client with the known model names rather than as a server error
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return models();
+    }
+
+    public record RankingModels(String active, Map<String, Map<String, ScoringWeights>> models) {
+    }
+}
@@ -0,0 +1,36 @@
+package junioranyafulu.DailyDigest.controller;
+
+import junioranyafulu.DailyDigest.service.SummaryStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/summary}: the stage breakdown of the last summary run of each strategy and
+ * the prompt budgeting of the last run. Timings and token totals over time are meters.
+ */
+@Component
+@Endpoint(id = "summary")
+public class SummaryEndpoint {
+
+    private final SummaryStats summaryStats;
+
+    @Autowired
+    public SummaryEndpoint(SummaryStats summaryStats) {
+        this.summaryStats = summaryStats;
+    }
+
+    @ReadOperation
+    public Report lastRuns() {
+        return new Report(summaryStats.lastRuns(), summaryStats.lastPrompt());
+    }
+
+    /**
+     * {@code lastPrompt} is {@code null} until a run has been budgeted.
+     */
+    public record Report(Map<String, SummaryStats.Run> lastRuns, SummaryStats.PromptReport lastPrompt) {
+    }
+}
@@ -0,0 +1,43 @@
+package junioranyafulu.DailyDigest.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The digest bullet written for a single article by the map stage, keyed by a hash of the
+ * normalised article plus model and prompt version, so an article seen in an earlier run
+ * needs no inference.
+ */
+@Entity
+@Table(name = "article_bullets")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticleBullet {
+
+    @Id
+    @Column(length = 64)
+    private String articleHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Kind kind;
+
+    @Column(length = 2000)
+    private String bullet;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public enum Kind {
+        NEWS,
+        ANTICIPATED,
+        SKIP
+    }
+}
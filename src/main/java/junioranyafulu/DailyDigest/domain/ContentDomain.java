@@ -0,0 +1,37 @@
+package junioranyafulu.DailyDigest.domain;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The content domains of the digest summary, with the Markdown headings each one owns and
+ * the keywords used to route news articles to it.
+ */
+@Getter
+public enum ContentDomain {
+    GAMING("Gaming", "## Gaming News", "## Anticipated Game Trailers / Releases", List.of(
+            "game", "gaming", "gamer", "video game", "xbox", "playstation", "ps5", "nintendo", "switch 2",
+            "steam", "esports", "dlc", "console", "rpg", "fortnite", "minecraft", "gta", "call of duty",
+            "zelda", "pokemon", "bungie", "ubisoft", "blizzard", "rockstar", "epic games")),
+    MOVIES("Movies", "## Movie News", "## Anticipated Movies / Trailers", List.of(
+            "movie", "film", "box office", "cinema", "theater", "theatrical", "director", "oscar", "academy award",
+            "marvel", "dc studios", "pixar", "sequel", "prequel", "remake", "blockbuster", "warner bros",
+            "universal pictures", "paramount", "sundance", "cannes")),
+    TV("TV / Streaming", "## TV / Streaming News", "## Anticipated Series / Trailers", List.of(
+            "tv", "television", "series", "season", "episode", "netflix", "hbo", "max original", "hulu",
+            "disney+", "prime video", "apple tv", "peacock", "streaming", "showrunner", "renewed", "canceled",
+            "cancelled", "emmy", "sitcom", "miniseries", "late-night"));
+
+    private final String label;
+    private final String newsHeading;
+    private final String anticipatedHeading;
+    private final List<String> keywords;
+
+    ContentDomain(String label, String newsHeading, String anticipatedHeading, List<String> keywords) {
+        this.label = label;
+        this.newsHeading = newsHeading;
+        this.anticipatedHeading = anticipatedHeading;
+        this.keywords = keywords;
+    }
+}
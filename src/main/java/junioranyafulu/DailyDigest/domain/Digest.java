@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.LazyGroup;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -17,7 +18,7 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Digest {
+public class Digest implements DigestMetadata {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -28,26 +29,45 @@ public class Digest {
 
     private String title;
 
+    // Each group is loaded by its own select on first access; without groups, touching any
+    // lazy column loads all of them. The raw columns are always read together to render.
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("html")
     @Column(length = 100000)
     private String htmlContent;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("summary")
     @Column(length = 50000)
     private String summary;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("raw")
     @Column(length = 100000)
     private String rawGames;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("raw")
     @Column(length = 100000)
     private String rawMovies;
 
     @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("raw")
     @Column(length = 100000)
     private String rawTV;
 
+    /** JSON map of stage name to milliseconds for the run that produced this version. */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @LazyGroup("timings")
+    @Column(length = 10000)
+    private String timings;
+
     @OneToMany(mappedBy = "digest", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<DigestSection> sections = new ArrayList<>();
@@ -0,0 +1,23 @@
+package junioranyafulu.DailyDigest.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the small, frequently read columns of a {@link Digest}, used where
+ * loading the large {@code @Lob} columns would be wasted work.
+ */
+public interface DigestMetadata {
+
+    Long getId();
+
+    LocalDate getDate();
+
+    String getTitle();
+
+    DigestStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
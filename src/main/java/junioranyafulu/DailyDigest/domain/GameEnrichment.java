@@ -0,0 +1,37 @@
+package junioranyafulu.DailyDigest.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cached RAWG {@code /games/{id}} details, reused across daily runs until the game's
+ * {@code updated} timestamp changes.
+ */
+@Entity
+@Table(name = "game_enrichments")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameEnrichment {
+
+    @Id
+    private Long rawgId;
+
+    @Lob
+    @Column(length = 50000)
+    private String descriptionRaw;
+
+    /**
+     * RAWG's {@code updated} value at the time the details were fetched.
+     */
+    private String sourceUpdated;
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+}
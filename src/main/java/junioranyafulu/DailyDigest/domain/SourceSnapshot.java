@@ -0,0 +1,34 @@
+package junioranyafulu.DailyDigest.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last good response of an upstream source, used when the source misses its deadline
+ * during generation.
+ */
+@Entity
+@Table(name = "source_snapshots")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SourceSnapshot {
+
+    @Id
+    @Column(length = 32)
+    private String source;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(length = 1000000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -0,0 +1,14 @@
+package junioranyafulu.DailyDigest.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a {@link SourceSnapshot} with its payload. Selecting the lazy {@code @Lob}
+ * column in the query reads it in the same statement, so no open session is needed to use it.
+ */
+public interface SourceSnapshotPayload {
+
+    String getPayload();
+
+    LocalDateTime getFetchedAt();
+}
@@ -0,0 +1,41 @@
+package junioranyafulu.DailyDigest.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A generated summary, keyed by a hash of the normalised article set together with the
+ * model, prompt version and strategy that produced it.
+ */
+@Entity
+@Table(name = "summary_cache")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryCacheEntry {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Lob
+    @Column(length = 50000)
+    private String summary;
+
+    private String model;
+
+    private String promptVersion;
+
+    private String strategy;
+
+    private Integer articleCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
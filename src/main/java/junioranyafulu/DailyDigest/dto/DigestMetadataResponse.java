@@ -0,0 +1,36 @@
+package junioranyafulu.DailyDigest.dto;
+
+import junioranyafulu.DailyDigest.domain.DigestMetadata;
+import junioranyafulu.DailyDigest.domain.DigestStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DigestMetadataResponse {
+
+    private Long id;
+    private LocalDate date;
+    private String title;
+    private DigestStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static DigestMetadataResponse from(DigestMetadata metadata) {
+        return DigestMetadataResponse.builder()
+                .id(metadata.getId())
+                .date(metadata.getDate())
+                .title(metadata.getTitle())
+                .status(metadata.getStatus())
+                .createdAt(metadata.getCreatedAt())
+                .updatedAt(metadata.getUpdatedAt())
+                .build();
+    }
+}
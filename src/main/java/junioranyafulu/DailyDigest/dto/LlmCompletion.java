@@ -0,0 +1,8 @@
+package junioranyafulu.DailyDigest.dto;
+
+/**
+ * Text of a model completion, the backend that produced it, and the token counts it
+ * reported (zero when unknown).
+ */
+public record LlmCompletion(String backend, String text, long promptTokens, long generationTokens) {
+}
@@ -1,5 +1,7 @@
 package junioranyafulu.DailyDigest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,9 +11,16 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OllamaRequest {
 
     private String model;
     private String prompt;
     private boolean stream;
+
+    /**
+     * How long Ollama keeps the model loaded after this request, e.g. {@code "30m"}.
+     */
+    @JsonProperty("keep_alive")
+    private String keepAlive;
 }
@@ -1,6 +1,7 @@
 package junioranyafulu.DailyDigest.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,4 +17,17 @@ public class OllamaResponse {
 
     private String response;
     private boolean done;
-}
\ No newline at end of file
+
+    // Durations are reported by Ollama in nanoseconds
+    @JsonProperty("total_duration")
+    private Long totalDuration;
+
+    @JsonProperty("load_duration")
+    private Long loadDuration;
+
+    @JsonProperty("prompt_eval_duration")
+    private Long promptEvalDuration;
+
+    @JsonProperty("eval_duration")
+    private Long evalDuration;
+}
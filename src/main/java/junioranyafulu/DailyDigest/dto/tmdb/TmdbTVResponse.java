@@ -1,5 +1,6 @@
 package junioranyafulu.DailyDigest.dto.tmdb;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,7 +18,9 @@ public class TmdbTVResponse {
 
     private List<TmdbTVShow> results;
 
+    @JsonProperty("total_pages")
     private Integer totalPages;
 
+    @JsonProperty("total_results")
     private Integer totalResults;
 }
@@ -0,0 +1,13 @@
+package junioranyafulu.DailyDigest.repository;
+
+import junioranyafulu.DailyDigest.domain.ArticleBullet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ArticleBulletRepository extends JpaRepository<ArticleBullet, String> {
+
+    long deleteByCreatedAtBefore(LocalDateTime cutoff);
+}
@@ -1,9 +1,11 @@
 package junioranyafulu.DailyDigest.repository;
 
 import junioranyafulu.DailyDigest.domain.Digest;
+import junioranyafulu.DailyDigest.domain.DigestMetadata;
 import junioranyafulu.DailyDigest.domain.DigestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -22,6 +24,31 @@ public interface DigestRepository extends JpaRepository<Digest, Long> {
     @Query("SELECT d FROM Digest d WHERE d.status = 'COMPLETED' ORDER BY d.date DESC LIMIT 1")
     Optional<Digest> findLatestCompleted();
 
+    @Query("SELECT d.id AS id, d.date AS date, d.title AS title, d.status AS status, "
+            + "d.createdAt AS createdAt, d.updatedAt AS updatedAt FROM Digest d "
+            + "WHERE d.status = 'COMPLETED' ORDER BY d.date DESC LIMIT 1")
+    Optional<DigestMetadata> findLatestCompletedMetadata();
+
+    @Query("SELECT d.id AS id, d.date AS date, d.title AS title, d.status AS status, "
+            + "d.createdAt AS createdAt, d.updatedAt AS updatedAt FROM Digest d "
+            + "WHERE d.date = :date")
+    Optional<DigestMetadata> findMetadataByDate(@Param("date") LocalDate date);
+
+    @Query("SELECT d.summary FROM Digest d WHERE d.id = :id")
+    Optional<String> findSummaryById(@Param("id") Long id);
+
+    @Query("SELECT d.rawGames FROM Digest d WHERE d.id = :id")
+    Optional<String> findRawGamesById(@Param("id") Long id);
+
+    @Query("SELECT d.rawMovies FROM Digest d WHERE d.id = :id")
+    Optional<String> findRawMoviesById(@Param("id") Long id);
+
+    @Query("SELECT d.rawTV FROM Digest d WHERE d.id = :id")
+    Optional<String> findRawTVById(@Param("id") Long id);
+
+    @Query("SELECT d.timings FROM Digest d WHERE d.id = :id")
+    Optional<String> findTimingsById(@Param("id") Long id);
+
     boolean existsByDate(LocalDate date);
 
     List<Digest> findTop10ByStatusOrderByDateDesc(DigestStatus status);
@@ -0,0 +1,9 @@
+package junioranyafulu.DailyDigest.repository;
+
+import junioranyafulu.DailyDigest.domain.GameEnrichment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GameEnrichmentRepository extends JpaRepository<GameEnrichment, Long> {
+}
@@ -0,0 +1,17 @@
+package junioranyafulu.DailyDigest.repository;
+
+import junioranyafulu.DailyDigest.domain.SourceSnapshot;
+import junioranyafulu.DailyDigest.domain.SourceSnapshotPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SourceSnapshotRepository extends JpaRepository<SourceSnapshot, String> {
+
+    @Query("SELECT s.payload AS payload, s.fetchedAt AS fetchedAt FROM SourceSnapshot s WHERE s.source = :source")
+    Optional<SourceSnapshotPayload> findPayloadBySource(@Param("source") String source);
+}
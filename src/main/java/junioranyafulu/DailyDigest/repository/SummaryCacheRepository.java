@@ -0,0 +1,13 @@
+package junioranyafulu.DailyDigest.repository;
+
+import junioranyafulu.DailyDigest.domain.SummaryCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SummaryCacheRepository extends JpaRepository<SummaryCacheEntry, String> {
+
+    long deleteByCreatedAtBefore(LocalDateTime cutoff);
+}
@@ -4,12 +4,10 @@ import junioranyafulu.DailyDigest.service.DailyDigestService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
-@EnableScheduling
 @Slf4j
 @ConditionalOnProperty(name = "digest.scheduling.enabled", havingValue = "true", matchIfMissing = true)
 public class DigestScheduler {
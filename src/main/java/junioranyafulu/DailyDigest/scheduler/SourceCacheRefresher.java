@@ -0,0 +1,106 @@
+package junioranyafulu.DailyDigest.scheduler;
+
+import junioranyafulu.DailyDigest.client.NewsApiClient;
+import junioranyafulu.DailyDigest.client.RAWGClient;
+import junioranyafulu.DailyDigest.client.TMDbClient;
+import junioranyafulu.DailyDigest.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Refresh-ahead for the source caches: fetches fresh responses {@code refresh-lead} before
+ * every scheduled generation and swaps them into the caches, so the generation itself reads
+ * warm data. A refresh that comes back empty leaves the previous entry in place.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "digest.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SourceCacheRefresher {
+
+    private final NewsApiClient newsApiClient;
+    private final TMDbClient tmdbClient;
+    private final RAWGClient rawgClient;
+    private final CacheManager cacheManager;
+    private final TaskScheduler taskScheduler;
+    private final CronExpression generationCron;
+    private final Duration refreshLead;
+
+    @Autowired
+    public SourceCacheRefresher(NewsApiClient newsApiClient, TMDbClient tmdbClient, RAWGClient rawgClient,
+            CacheManager cacheManager, TaskScheduler taskScheduler,
+            @Value("${digest.scheduling.cron:0 0 8 * * *}") String generationCron,
+            @Value("${digest.cache.sources.refresh-lead:PT15M}") Duration refreshLead) {
+        this.newsApiClient = newsApiClient;
+        this.tmdbClient = tmdbClient;
+        this.rawgClient = rawgClient;
+        this.cacheManager = cacheManager;
+        this.taskScheduler = taskScheduler;
+        this.generationCron = CronExpression.parse(generationCron);
+        this.refreshLead = refreshLead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedule() {
+        taskScheduler.schedule(this::refresh, context -> nextRefresh());
+        log.info("Source cache refresh-ahead scheduled for {}", nextRefresh());
+    }
+
+    /**
+     * Starts the refresh and returns; the fetches run on the HTTP client's threads, so the
+     * shared scheduler thread is not held while the upstreams answer.
+     */
+    public void refresh() {
+        log.info("Refreshing source caches ahead of the scheduled generation");
+        Flux.merge(
+                store("news", newsApiClient.fetchTopHeadlines()),
+                store("movies", tmdbClient.fetchTrendingMovies()),
+                store("tv_shows", tmdbClient.fetchTrendingTVShows()),
+                store("games", rawgClient.fetchTrendingGames()))
+                .then()
+                .timeout(refreshLead)
+                .subscribe(null, e -> log.warn("Source cache refresh did not complete: {}", e.getMessage()),
+                        () -> log.info("Source caches refreshed"));
+    }
+
+    private Mono<Void> store(String cacheName, Mono<?> fetch) {
+        return fetch
+                .doOnNext(response -> {
+                    Cache cache = cacheManager.getCache(cacheName);
+                    if (cache == null) {
+                        return;
+                    }
+                    if (CacheConfig.isNegative(response)) {
+                        log.warn("Refresh of '{}' returned no results, keeping the cached entry", cacheName);
+                        return;
+                    }
+                    cache.put(SimpleKey.EMPTY, response);
+                    log.debug("Refreshed cache '{}'", cacheName);
+                })
+                .then();
+    }
+
+    private Instant nextRefresh() {
+        LocalDateTime nextRun = generationCron.next(LocalDateTime.now().plus(refreshLead));
+        if (nextRun == null) {
+            return null;
+        }
+        return nextRun.minus(refreshLead).atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
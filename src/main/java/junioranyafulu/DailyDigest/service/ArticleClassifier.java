@@ -0,0 +1,85 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.domain.ContentDomain;
+import junioranyafulu.DailyDigest.dto.Article;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Routes news articles to a {@link ContentDomain} by keyword hits in the title and
+ * description. Title hits count double; articles without any hit are dropped, as the
+ * summary prompt would omit them anyway.
+ */
+@Service
+@Slf4j
+public class ArticleClassifier {
+
+    public Map<ContentDomain, List<Article>> classify(List<Article> articles) {
+        Map<ContentDomain, List<Article>> buckets = new EnumMap<>(ContentDomain.class);
+        for (ContentDomain domain : ContentDomain.values()) {
+            buckets.put(domain, new ArrayList<>());
+        }
+
+        int unclassified = 0;
+        for (Article article : articles) {
+            ContentDomain domain = classify(article);
+            if (domain == null) {
+                unclassified++;
+            } else {
+                buckets.get(domain).add(article);
+            }
+        }
+        if (unclassified > 0) {
+            log.debug("{} of {} articles matched no content domain", unclassified, articles.size());
+        }
+        return buckets;
+    }
+
+    public ContentDomain classify(Article article) {
+        String title = normalize(article.getTitle());
+        String description = normalize(article.getDescription());
+
+        ContentDomain best = null;
+        int bestScore = 0;
+        for (ContentDomain domain : ContentDomain.values()) {
+            int score = 0;
+            for (String keyword : domain.getKeywords()) {
+                String needle = " " + keyword + " ";
+                if (title.contains(needle)) {
+                    score += 2;
+                }
+                if (description.contains(needle)) {
+                    score++;
+                }
+            }
+            if (score > bestScore) {
+                best = domain;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Lower-cases and pads the text, turning punctuation into spaces so keywords match on
+     * word boundaries ("Netflix's" still matches "netflix").
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return " ";
+        }
+        StringBuilder normalized = new StringBuilder(text.length() + 2).append(' ');
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            normalized.append(Character.isLetterOrDigit(c) || c == '+' || c == '-' ? c : ' ');
+        }
+        return normalized.append(' ').toString();
+    }
+}
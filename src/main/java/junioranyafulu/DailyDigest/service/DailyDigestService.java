@@ -1,37 +1,52 @@
 package junioranyafulu.DailyDigest.service;
 
 import junioranyafulu.DailyDigest.client.NewsApiClient;
-import junioranyafulu.DailyDigest.client.OllamaClient;
 import junioranyafulu.DailyDigest.client.TMDbClient;
 import junioranyafulu.DailyDigest.client.RAWGClient;
 import junioranyafulu.DailyDigest.domain.Digest;
+import junioranyafulu.DailyDigest.domain.DigestMetadata;
 import junioranyafulu.DailyDigest.domain.DigestStatus;
 import junioranyafulu.DailyDigest.dto.NewsApiResponse;
 import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
 import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovieResponse;
 import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVResponse;
 import junioranyafulu.DailyDigest.repository.DigestRepository;
+import junioranyafulu.DailyDigest.service.SourceSnapshotService.Fetched;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
 @Slf4j
 public class DailyDigestService {
 
+    static final String NO_NEWS_SUMMARY = "No entertainment news available for today.";
+
     private final NewsApiClient newsApiClient;
-    private final OllamaClient ollamaClient;
     private final TMDbClient tmdbClient;
     private final RAWGClient rawgClient;
     private final DigestRepository digestRepository;
     private final HtmlRenderingService htmlRenderingService;
+    private final DigestHtmlCache htmlCache;
+    private final LatestDigestHolder latestDigestHolder;
+    private final GenerationExecutor generationExecutor;
+    private final SourceSnapshotService sourceSnapshotService;
+    private final SummaryStreamService summaryStreamService;
+    private final SummaryService summaryService;
+    private final GenerationMetrics generationMetrics;
+    private final boolean streamingSummary;
+    private final boolean publishDraft;
 
     private final RankingService rankingService;
     private final com.fasterxml.jackson.databind.ObjectMapper objectMapper;
@@ -39,19 +54,35 @@ public class DailyDigestService {
     @Autowired
     public DailyDigestService(
             NewsApiClient newsApiClient,
-            OllamaClient ollamaClient,
             TMDbClient tmdbClient,
             RAWGClient rawgClient,
             DigestRepository digestRepository,
             HtmlRenderingService htmlRenderingService,
+            DigestHtmlCache htmlCache,
+            LatestDigestHolder latestDigestHolder,
+            GenerationExecutor generationExecutor,
+            SourceSnapshotService sourceSnapshotService,
+            SummaryStreamService summaryStreamService,
+            SummaryService summaryService,
+            GenerationMetrics generationMetrics,
             RankingService rankingService,
-            com.fasterxml.jackson.databind.ObjectMapper objectMapper) {
+            com.fasterxml.jackson.databind.ObjectMapper objectMapper,
+            @Value("${digest.summary.streaming:true}") boolean streamingSummary,
+            @Value("${digest.summary.extractive.publish-first:true}") boolean publishDraft) {
         this.newsApiClient = newsApiClient;
-        this.ollamaClient = ollamaClient;
         this.tmdbClient = tmdbClient;
         this.rawgClient = rawgClient;
         this.digestRepository = digestRepository;
         this.htmlRenderingService = htmlRenderingService;
+        this.htmlCache = htmlCache;
+        this.latestDigestHolder = latestDigestHolder;
+        this.generationExecutor = generationExecutor;
+        this.sourceSnapshotService = sourceSnapshotService;
+        this.summaryStreamService = summaryStreamService;
+        this.summaryService = summaryService;
+        this.generationMetrics = generationMetrics;
+        this.streamingSummary = streamingSummary;
+        this.publishDraft = publishDraft;
         this.rankingService = rankingService;
         this.objectMapper = objectMapper;
     }
@@ -59,113 +90,326 @@ public class DailyDigestService {
     public Digest generateDailyDigest() {
         log.info("Starting daily digest generation");
 
+        GenerationMetrics.Recorder timings = generationMetrics.start(GenerationMetrics.BLOCKING);
+        String outcome = "failure";
+        SummaryStreamService.Live liveSummary = null;
         try {
-            // Create a new digest
-            Digest digest = Digest.builder()
-                    .date(LocalDate.now())
-                    .title("Daily Entertainment Digest - " + LocalDate.now())
-                    .status(DigestStatus.GENERATING)
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-
-            // Save initial digest
-            @SuppressWarnings("null")
-            Digest savedDigest = digestRepository.save(digest);
-            digest = savedDigest;
-            log.info("Created digest with ID: {}", digest.getId());
-
-            // Fetch data from all sources asynchronously
+            Digest digest = timings.time("start", this::startDigest);
+
+            // Fetch data from all sources asynchronously; a source that misses its deadline
+            // is served from its last snapshot and patched in when it lands
             log.info("Fetching data from all sources in parallel...");
+            long fetchStart = System.nanoTime();
 
-            CompletableFuture<NewsApiResponse> newsFuture = CompletableFuture.supplyAsync(() -> {
-                log.info("Fetching entertainment news from NewsAPI...");
-                return newsApiClient.getTopHeadlines();
-            });
+            CompletableFuture<Fetched<NewsApiResponse>> newsFuture = sourceSnapshotService.withDeadline("news",
+                    NewsApiResponse.class, generationExecutor.supply("newsapi", () -> {
+                        log.info("Fetching entertainment news from NewsAPI...");
+                        return newsApiClient.getTopHeadlines();
+                    }));
 
-            CompletableFuture<TmdbMovieResponse> moviesFuture = CompletableFuture.supplyAsync(() -> {
-                log.info("Fetching trending movies from TMDb...");
-                return tmdbClient.getTrendingMovies();
-            });
+            CompletableFuture<Fetched<TmdbMovieResponse>> moviesFuture = sourceSnapshotService.withDeadline("movies",
+                    TmdbMovieResponse.class, generationExecutor.supply("tmdb", () -> {
+                        log.info("Fetching trending movies from TMDb...");
+                        return tmdbClient.getTrendingMovies();
+                    }));
 
-            CompletableFuture<TmdbTVResponse> tvFuture = CompletableFuture.supplyAsync(() -> {
-                log.info("Fetching trending TV shows from TMDb...");
-                return tmdbClient.getTrendingTVShows();
-            });
+            CompletableFuture<Fetched<TmdbTVResponse>> tvFuture = sourceSnapshotService.withDeadline("tv_shows",
+                    TmdbTVResponse.class, generationExecutor.supply("tmdb", () -> {
+                        log.info("Fetching trending TV shows from TMDb...");
+                        return tmdbClient.getTrendingTVShows();
+                    }));
 
-            CompletableFuture<RawgGamesResponse> gamesFuture = CompletableFuture.supplyAsync(() -> {
-                log.info("Fetching trending games from RAWG...");
-                return rawgClient.getTrendingGames();
-            });
+            CompletableFuture<Fetched<RawgGamesResponse>> gamesFuture = sourceSnapshotService.withDeadline("games",
+                    RawgGamesResponse.class, generationExecutor.supply("rawg", () -> {
+                        log.info("Fetching trending games from RAWG...");
+                        return rawgClient.getTrendingGames();
+                    }));
 
-            // Wait for all to complete
+            // Wait for all to complete (bounded by the per-source deadlines)
             CompletableFuture.allOf(newsFuture, moviesFuture, tvFuture, gamesFuture).join();
+            timings.record("fetch", fetchStart);
+
+            Map<String, Fetched<?>> fetched = Map.of("news", newsFuture.get(), "movies", moviesFuture.get(),
+                    "tv_shows", tvFuture.get(), "games", gamesFuture.get());
+            SourceData sources = new SourceData(newsFuture.get().value(), moviesFuture.get().value(),
+                    tvFuture.get().value(), gamesFuture.get().value());
 
-            NewsApiResponse newsResponse = newsFuture.get();
-            TmdbMovieResponse moviesResponse = moviesFuture.get();
-            TmdbTVResponse tvResponse = tvFuture.get();
-            RawgGamesResponse gamesResponse = gamesFuture.get();
+            // Publish with the extractive summary first, then swap in the AI summary
+            digest = publishDraft(digest, sources, timings);
 
             // Generate AI summary
-            if (newsResponse != null && newsResponse.getArticles() != null && !newsResponse.getArticles().isEmpty()) {
-                log.info("Generating AI summary for {} articles", newsResponse.getArticles().size());
-                String aiSummary = ollamaClient.generateSummary(newsResponse.getArticles());
-                digest.setSummary(aiSummary);
+            String summary;
+            long summaryStart = System.nanoTime();
+            if (sources.hasArticles()) {
+                log.info("Generating AI summary for {} articles", sources.news().getArticles().size());
+                if (streamingSummary) {
+                    // Readers can follow the summary on the SSE endpoint while it is written
+                    liveSummary = summaryStreamService.begin();
+                    summary = summaryService.summarize(sources.news().getArticles(), liveSummary::append);
+                } else {
+                    summary = summaryService.summarize(sources.news().getArticles(), null);
+                }
                 log.info("AI summary generated successfully");
             } else {
                 log.warn("No articles found to summarize");
-                digest.setSummary("No entertainment news available for today.");
+                summary = NO_NEWS_SUMMARY;
             }
+            timings.record("summary", summaryStart);
 
-            // Generate HTML content
-            log.info("Rendering HTML digest...");
-
-            // Rank content
-            var rankedGames = rankingService
-                    .rankGames(gamesResponse != null ? gamesResponse.getResults() : Collections.emptyList());
-            var rankedMovies = rankingService
-                    .rankMovies(moviesResponse != null ? moviesResponse.getResults() : Collections.emptyList());
-            var rankedTV = rankingService
-                    .rankTVShows(tvResponse != null ? tvResponse.getResults() : Collections.emptyList());
+            Digest completed = completeDigest(digest, sources, summary, timings);
+            if (liveSummary != null) {
+                liveSummary.stored(completed.getSummary());
+            }
+            applyLateSources(completed, sources, summary, fetched);
+            outcome = "success";
+            return completed;
 
-            // Save raw data for dynamic rendering
-            try {
-                digest.setRawGames(objectMapper.writeValueAsString(rankedGames));
-                digest.setRawMovies(objectMapper.writeValueAsString(rankedMovies));
-                digest.setRawTV(objectMapper.writeValueAsString(rankedTV));
-            } catch (Exception e) {
-                log.error("Failed to serialize raw data", e);
+        } catch (Exception e) {
+            log.error("Error generating daily digest", e);
+            throw new RuntimeException("Failed to generate daily digest", e);
+        } finally {
+            if (liveSummary != null) {
+                summaryStreamService.end(liveSummary);
             }
+            timings.finish(outcome);
+        }
+    }
 
-            String htmlContent = htmlRenderingService.renderDigestToHtml(
-                    digest,
-                    rankedGames,
-                    rankedMovies,
-                    rankedTV);
-            digest.setHtmlContent(htmlContent);
+    /**
+     * Returns today's digest row, creating it in the GENERATING state if needed.
+     */
+    Digest startDigest() {
+        // Regenerate today's digest in place (e.g. a manual /generate after the scheduled
+        // run); the previous version keeps being served until the new one is saved
+        Digest digest = digestRepository.findByDate(LocalDate.now()).orElse(null);
+        if (digest != null) {
+            log.info("Regenerating existing digest with ID: {}", digest.getId());
+            return digest;
+        }
+
+        // Create a new digest
+        digest = Digest.builder()
+                .date(LocalDate.now())
+                .title("Daily Entertainment Digest - " + LocalDate.now())
+                .status(DigestStatus.GENERATING)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
 
-            // Update digest status
-            digest.setStatus(DigestStatus.COMPLETED);
-            digest.setUpdatedAt(LocalDateTime.now());
+        // Save initial digest
+        @SuppressWarnings("null")
+        Digest savedDigest = digestRepository.save(digest);
+        log.info("Created digest with ID: {}", savedDigest.getId());
+        return savedDigest;
+    }
 
-            // Save final digest
-            digest = java.util.Objects.requireNonNull(digestRepository.save(digest));
-            log.info("Daily digest generated successfully with ID: {}", digest.getId());
+    /**
+     * Ranks, renders and persists a digest from fetched source data and its summary, then
+     * publishes it to the read path. Shared by the blocking and reactive pipelines. The stage
+     * breakdown up to the save is stored with the row; the save and pre-rendering are only
+     * in the metrics.
+     */
+    Digest completeDigest(Digest digest, SourceData sources, String summary, GenerationMetrics.Recorder timings) {
+        digest.setSummary(summary);
 
-            return digest;
+        // Generate HTML content
+        log.info("Rendering HTML digest...");
+
+        // Rank content
+        long rankStart = System.nanoTime();
+        var rankedGames = rankingService
+                .rankGames(sources.games() != null ? sources.games().getResults() : Collections.emptyList());
+        var rankedMovies = rankingService
+                .rankMovies(sources.movies() != null ? sources.movies().getResults() : Collections.emptyList());
+        var rankedTV = rankingService
+                .rankTVShows(sources.tvShows() != null ? sources.tvShows().getResults() : Collections.emptyList());
+        timings.record("rank", rankStart);
 
+        // Save raw data for dynamic rendering
+        long serializeStart = System.nanoTime();
+        try {
+            digest.setRawGames(objectMapper.writeValueAsString(rankedGames));
+            digest.setRawMovies(objectMapper.writeValueAsString(rankedMovies));
+            digest.setRawTV(objectMapper.writeValueAsString(rankedTV));
         } catch (Exception e) {
-            log.error("Error generating daily digest", e);
-            throw new RuntimeException("Failed to generate daily digest", e);
+            log.error("Failed to serialize raw data", e);
         }
+        timings.record("serialize", serializeStart);
+
+        String htmlContent = timings.time("render", () -> htmlRenderingService.renderDigestToHtml(
+                digest,
+                rankedGames,
+                rankedMovies,
+                rankedTV));
+        digest.setHtmlContent(htmlContent);
+
+        // Update digest status
+        digest.setStatus(DigestStatus.COMPLETED);
+        digest.setUpdatedAt(LocalDateTime.now());
+        try {
+            digest.setTimings(objectMapper.writeValueAsString(timings.breakdown()));
+        } catch (Exception e) {
+            log.warn("Failed to serialize generation timings", e);
+        }
+
+        // Save final digest
+        Digest completed = timings.time("save",
+                () -> java.util.Objects.requireNonNull(digestRepository.save(digest)));
+        log.info("Daily digest generated successfully with ID: {}", completed.getId());
+
+        // Pre-render every edition so readers never pay for rendering
+        // and pre-compress them so serving costs no CPU either
+        long prerenderStart = System.nanoTime();
+        // Editions of the previous version of this digest can no longer be requested
+        htmlCache.invalidate(completed.getId());
+        RenderedEdition all = RenderedEdition.of(htmlContent);
+        htmlCache.put(completed, "all", all);
+        recordEditionSize("all", all);
+        for (String edition : HtmlRenderingService.EDITIONS) {
+            if (!"all".equals(edition)) {
+                RenderedEdition rendered = RenderedEdition.of(htmlRenderingService.renderDigestToHtml(
+                        digest, rankedGames, rankedMovies, rankedTV, edition));
+                htmlCache.put(completed, edition, rendered);
+                recordEditionSize(edition, rendered);
+            }
+        }
+        timings.record("prerender", prerenderStart);
+        latestDigestHolder.publish(completed);
+
+        // JSON and Markdown are almost entirely ASCII, so the length stands in for the byte count
+        recordSize("summary", completed.getSummary());
+        recordSize("raw_games", completed.getRawGames());
+        recordSize("raw_movies", completed.getRawMovies());
+        recordSize("raw_tv", completed.getRawTV());
+
+        return completed;
+    }
+
+    private void recordEditionSize(String edition, RenderedEdition rendered) {
+        generationMetrics.recordPayload("html_" + edition, rendered.identity().length);
+        generationMetrics.recordPayload("html_" + edition + "_gzip", rendered.gzip().length);
+    }
+
+    private void recordSize(String kind, String payload) {
+        if (payload != null) {
+            generationMetrics.recordPayload(kind, payload.length());
+        }
+    }
+
+    /**
+     * Publishes the digest with the extractive summary so readers get today's edition within
+     * milliseconds of the fetch. Returns an unpublished copy for the final version, or the
+     * digest unchanged when there is nothing to draft.
+     */
+    Digest publishDraft(Digest digest, SourceData sources, GenerationMetrics.Recorder timings) {
+        if (!publishDraft || !sources.hasArticles()) {
+            return digest;
+        }
+        GenerationMetrics.Recorder draftTimings = timings.phase(GenerationMetrics.DRAFT);
+        String draft = draftTimings.time("summary", () -> summaryService.draft(sources.news().getArticles()));
+        if (draft == null) {
+            return digest;
+        }
+        Digest published = completeDigest(digest, sources, draft, draftTimings);
+        log.info("Published digest {} with the extractive summary, generating the AI summary", published.getId());
+        return copyOf(published);
+    }
+
+    /**
+     * Patches a completed digest with the sources that missed their deadline, one at a time
+     * as they land. Late news also regenerates the summary.
+     */
+    void applyLateSources(Digest completed, SourceData sources, String summary, Map<String, Fetched<?>> fetched) {
+        LatePatch patch = new LatePatch(completed, sources, summary);
+        fetched.forEach((source, result) -> sourceSnapshotService.onLateArrival(source, result,
+                fresh -> patch.apply(source, fresh)));
     }
 
     public Digest getLatestDigest() {
-        return digestRepository.findLatestCompleted()
+        return latestDigestHolder.current()
+                .or(digestRepository::findLatestCompleted)
+                .orElseThrow(() -> new RuntimeException("No completed digest found"));
+    }
+
+    public DigestMetadata getLatestDigestMetadata() {
+        return latestDigestHolder.current()
+                .<DigestMetadata>map(digest -> digest)
+                .or(digestRepository::findLatestCompletedMetadata)
                 .orElseThrow(() -> new RuntimeException("No completed digest found"));
     }
 
-    public String getDigestHtml(Digest digest, String edition) {
+    public DigestMetadata getDigestMetadataByDate(LocalDate date) {
+        return digestRepository.findMetadataByDate(date)
+                .orElseThrow(() -> new RuntimeException("No digest found for date: " + date));
+    }
+
+    public Digest getDigest(Long id) {
+        Digest latest = latestDigestHolder.current().orElse(null);
+        if (latest != null && latest.getId().equals(id)) {
+            return latest;
+        }
+        return digestRepository.findById(java.util.Objects.requireNonNull(id))
+                .orElseThrow(() -> new RuntimeException("No digest found with ID: " + id));
+    }
+
+    /**
+     * Loads a single large column of a digest without materialising the entity, so callers
+     * that need one field do not pay for the other LOBs.
+     */
+    public String getDigestField(Long id, String field) {
+        Optional<String> value = switch (field.toLowerCase()) {
+            case "summary" -> digestRepository.findSummaryById(id);
+            case "games" -> digestRepository.findRawGamesById(id);
+            case "movies" -> digestRepository.findRawMoviesById(id);
+            case "tv" -> digestRepository.findRawTVById(id);
+            case "timings" -> digestRepository.findTimingsById(id);
+            default -> throw new IllegalArgumentException("Unknown digest field: " + field);
+        };
+        return value.orElse(null);
+    }
+
+    public String getDigestHtml(Digest digest, String requestedEdition) {
+        String edition = HtmlRenderingService.normalizeEdition(requestedEdition);
+        boolean cacheable = digest.getStatus() == DigestStatus.COMPLETED
+                && HtmlRenderingService.isKnownEdition(edition);
+        if (cacheable) {
+            var cached = htmlCache.get(digest.getId(), digest.getUpdatedAt(), edition);
+            if (cached.isPresent()) {
+                return cached.get().html();
+            }
+        }
+
+        String html = renderDigestHtml(digest, edition);
+        if (cacheable) {
+            htmlCache.put(digest, edition, RenderedEdition.of(html));
+        }
+        return html;
+    }
+
+    /**
+     * Returns the rendered edition with its pre-compressed variants, loading and rendering
+     * the digest only when the cache does not already hold this version.
+     */
+    public RenderedEdition getRenderedEdition(DigestMetadata metadata, String requestedEdition) {
+        String edition = HtmlRenderingService.normalizeEdition(requestedEdition);
+        boolean cacheable = metadata.getStatus() == DigestStatus.COMPLETED
+                && HtmlRenderingService.isKnownEdition(edition);
+        if (cacheable) {
+            var cached = htmlCache.get(metadata.getId(), metadata.getUpdatedAt(), edition);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        Digest digest = getDigest(metadata.getId());
+        RenderedEdition rendered = RenderedEdition.of(renderDigestHtml(digest, edition));
+        if (cacheable) {
+            htmlCache.put(digest, edition, rendered);
+        }
+        return rendered;
+    }
+
+    private String renderDigestHtml(Digest digest, String edition) {
         try {
             List<junioranyafulu.DailyDigest.dto.rawg.RawgGame> games = Collections.emptyList();
             List<junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie> movies = Collections.emptyList();
@@ -199,4 +443,112 @@ public class DailyDigestService {
         return digestRepository.findByDate(date)
                 .orElseThrow(() -> new RuntimeException("No digest found for date: " + date));
     }
+
+    /**
+     * Copy of a published digest to complete again without touching the instance readers hold.
+     */
+    private static Digest copyOf(Digest digest) {
+        return Digest.builder()
+                .id(digest.getId())
+                .date(digest.getDate())
+                .title(digest.getTitle())
+                .sections(digest.getSections())
+                .createdAt(digest.getCreatedAt())
+                .updatedAt(digest.getUpdatedAt())
+                .status(DigestStatus.COMPLETED)
+                .build();
+    }
+
+    /**
+     * Patches are serialised by a lock held only while merging the source and saving; the
+     * summary for late news is written before taking it, so one late source's inference never
+     * holds up the others or pins a carrier thread of the generation executor.
+     */
+    private final class LatePatch {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Long digestId;
+        private Digest digest;
+        private SourceData sources;
+        private String summary;
+
+        LatePatch(Digest digest, SourceData sources, String summary) {
+            this.digestId = digest.getId();
+            this.digest = digest;
+            this.sources = sources;
+            this.summary = summary;
+        }
+
+        void apply(String source, Object fresh) {
+            if (isSuperseded(source)) {
+                return;
+            }
+
+            log.info("Late {} data arrived, patching digest {}", source, digestId);
+            GenerationMetrics.Recorder timings = generationMetrics.start(GenerationMetrics.LATE_PATCH);
+            String outcome = "failure";
+            SummaryStreamService.Live liveSummary = null;
+            try {
+                String lateSummary = null;
+                NewsApiResponse news = "news".equals(source) ? (NewsApiResponse) fresh : null;
+                if (news != null && news.getArticles() != null && !news.getArticles().isEmpty()) {
+                    long summaryStart = System.nanoTime();
+                    if (streamingSummary) {
+                        // Readers can follow the summary on the SSE endpoint while it is written
+                        liveSummary = summaryStreamService.begin();
+                        lateSummary = summaryService.summarize(news.getArticles(), liveSummary::append);
+                    } else {
+                        lateSummary = summaryService.summarize(news.getArticles(), null);
+                    }
+                    timings.record("summary", summaryStart);
+                }
+
+                Digest patched;
+                lock.lock();
+                try {
+                    if (isSuperseded(source)) {
+                        outcome = "superseded";
+                        return;
+                    }
+                    sources = sources.with(source, fresh);
+                    if (lateSummary != null) {
+                        summary = lateSummary;
+                    }
+                    // Patch a copy; the published instance is being read concurrently
+                    digest = completeDigest(copyOf(digest), sources, summary, timings);
+                    patched = digest;
+                } finally {
+                    lock.unlock();
+                }
+                if (liveSummary != null) {
+                    liveSummary.stored(patched.getSummary());
+                }
+                outcome = "success";
+            } finally {
+                if (liveSummary != null) {
+                    summaryStreamService.end(liveSummary);
+                }
+                timings.finish(outcome);
+            }
+        }
+
+        /**
+         * Whether a newer version of the digest was published since this one, by a
+         * regeneration rather than by one of these patches.
+         */
+        private boolean isSuperseded(String source) {
+            Digest latest = latestDigestHolder.current().orElse(null);
+            LocalDateTime patchedAt;
+            lock.lock();
+            try {
+                patchedAt = digest.getUpdatedAt();
+            } finally {
+                lock.unlock();
+            }
+            if (latest != null && latest.getId().equals(digestId) && latest.getUpdatedAt().isAfter(patchedAt)) {
+                log.info("Digest {} was regenerated meanwhile, dropping late {} data", digestId, source);
+                return true;
+            }
+            return false;
+        }
+    }
 }
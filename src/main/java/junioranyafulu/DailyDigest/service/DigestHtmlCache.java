@@ -0,0 +1,139 @@
+package junioranyafulu.DailyDigest.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import junioranyafulu.DailyDigest.domain.Digest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of rendered digest editions (HTML plus its gzip variant).
+ * Entries are keyed by (digest id, edition, updatedAt) so a re-saved digest never serves
+ * stale markup, and the cache is bounded by the total size of the stored bytes rather than
+ * by entry count. Lookups are counted as {@code digest.html.cache.gets} (tagged result hit or
+ * miss) and evictions as {@code digest.html.cache.evictions}; the entry count, stored bytes and
+ * byte bound are gauged as {@code digest.html.cache.entries}, {@code .size} and {@code .max.size}.
+ */
+@Service
+@Slf4j
+public class DigestHtmlCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<Key, RenderedEdition> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public DigestHtmlCache(MeterRegistry registry, @Value("${digest.cache.html.max-bytes:16777216}") long maxBytes) {
+        this.maxBytes = maxBytes;
+        FunctionCounter.builder("digest.html.cache.gets", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("digest.html.cache.gets", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("digest.html.cache.evictions", evictions, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("digest.html.cache.entries", this, DigestHtmlCache::entryCount)
+                .register(registry);
+        Gauge.builder("digest.html.cache.size", this, DigestHtmlCache::byteCount)
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+        Gauge.builder("digest.html.cache.max.size", this, cache -> cache.maxBytes)
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+
+    public Optional<RenderedEdition> get(Long digestId, LocalDateTime updatedAt, String edition) {
+        Key key = Key.of(digestId, updatedAt, edition);
+        if (key == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        RenderedEdition rendered;
+        synchronized (this) {
+            rendered = entries.get(key);
+        }
+        if (rendered == null) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+        hits.incrementAndGet();
+        return Optional.of(rendered);
+    }
+
+    public void put(Digest digest, String edition, RenderedEdition rendered) {
+        Key key = Key.of(digest.getId(), digest.getUpdatedAt(), edition);
+        if (key == null || rendered == null) {
+            return;
+        }
+        long size = rendered.sizeInBytes();
+        if (size > maxBytes) {
+            log.warn("Rendered HTML for digest {} ({}) is larger than the cache ({} bytes), not caching",
+                    digest.getId(), edition, size);
+            return;
+        }
+        synchronized (this) {
+            RenderedEdition previous = entries.put(key, rendered);
+            if (previous != null) {
+                currentBytes -= previous.sizeInBytes();
+            }
+            currentBytes += size;
+            evictIfNeeded();
+        }
+    }
+
+    public synchronized void invalidate(Long digestId) {
+        Iterator<Map.Entry<Key, RenderedEdition>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, RenderedEdition> entry = it.next();
+            if (entry.getKey().digestId().equals(digestId)) {
+                currentBytes -= entry.getValue().sizeInBytes();
+                it.remove();
+            }
+        }
+    }
+
+    private synchronized double entryCount() {
+        return entries.size();
+    }
+
+    private synchronized double byteCount() {
+        return currentBytes;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<Map.Entry<Key, RenderedEdition>> it = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Map.Entry<Key, RenderedEdition> eldest = it.next();
+            currentBytes -= eldest.getValue().sizeInBytes();
+            it.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    record Key(Long digestId, String edition, LocalDateTime updatedAt) {
+
+        static Key of(Long digestId, LocalDateTime updatedAt, String edition) {
+            if (digestId == null || updatedAt == null || edition == null) {
+                return null;
+            }
+            // Editions arrive normalised (HtmlRenderingService.normalizeEdition); truncate so the
+            // key survives the database round trip of the timestamp
+            return new Key(digestId, edition, updatedAt.truncatedTo(ChronoUnit.MILLIS));
+        }
+    }
+}
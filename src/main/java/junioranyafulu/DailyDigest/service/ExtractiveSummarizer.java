@@ -0,0 +1,213 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.domain.ContentDomain;
+import junioranyafulu.DailyDigest.dto.Article;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the digest summary without a model, in the Markdown layout of the LLM summary. Each
+ * article is weighted by TF-IDF over its title and description; within a content domain the
+ * articles closest to the domain centroid (the day's dominant stories) are picked, skipping
+ * any that repeat an already picked one. Bullets are the article title and the lead sentence
+ * of its description. Runs in milliseconds, so it serves as the first published summary and
+ * as the fallback when the LLM fails.
+ */
+@Service
+@Slf4j
+public class ExtractiveSummarizer {
+
+    static final String STRATEGY = "extractive";
+
+    private static final Pattern WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?])\\s+(?=[A-Z\"'])");
+    private static final Pattern ANTICIPATED = Pattern.compile(
+            "(?i)\\b(trailer|teaser|first look|release date|upcoming|coming soon|premieres?|premiere date|"
+                    + "set to (release|premiere|debut|launch)|slated|pre-orders?|launch(es|ing)? (on|in)|"
+                    + "arrives? (on|in)|returns? (on|in))\\b");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "with", "that", "this", "from", "into", "its", "his", "her", "their", "has",
+            "have", "had", "was", "were", "are", "will", "would", "been", "after", "about", "over", "new", "more",
+            "than", "but", "not", "you", "your", "who", "what", "when", "how", "why", "all", "out", "just", "also",
+            "one", "two", "first", "says", "said", "can", "could", "may", "now", "get", "gets");
+    private static final double REDUNDANCY_THRESHOLD = 0.5;
+    private static final int MAX_BULLET_CHARS = 240;
+
+    private final ArticleClassifier articleClassifier;
+    private final int perDomain;
+
+    @Autowired
+    public ExtractiveSummarizer(
+            ArticleClassifier articleClassifier,
+            @Value("${digest.summary.extractive.per-domain:4}") int perDomain) {
+        this.articleClassifier = articleClassifier;
+        this.perDomain = perDomain;
+    }
+
+    /**
+     * Summarises already cleaned articles; returns an empty string when no article matches
+     * a content domain.
+     */
+    public String summarize(List<Article> articles) {
+        List<Map<String, Double>> vectors = tfIdf(articles);
+        Map<Article, Map<String, Double>> vectorOf = new IdentityHashMap<>();
+        for (int i = 0; i < articles.size(); i++) {
+            vectorOf.put(articles.get(i), vectors.get(i));
+        }
+
+        StringBuilder summary = new StringBuilder();
+        Article pick = null;
+        double pickScore = -1;
+        for (Map.Entry<ContentDomain, List<Article>> bucket : articleClassifier.classify(articles).entrySet()) {
+            List<Article> domainArticles = bucket.getValue();
+            if (domainArticles.isEmpty()) {
+                continue;
+            }
+
+            Map<String, Double> centroid = new HashMap<>();
+            domainArticles.forEach(article -> vectorOf.get(article)
+                    .forEach((term, weight) -> centroid.merge(term, weight, Double::sum)));
+            Map<Article, Double> scores = new IdentityHashMap<>();
+            domainArticles.forEach(article -> scores.put(article, cosine(vectorOf.get(article), centroid)));
+
+            List<Article> selected = new ArrayList<>();
+            for (Article article : domainArticles.stream()
+                    .sorted(Comparator.comparingDouble(scores::get).reversed())
+                    .toList()) {
+                if (selected.size() >= perDomain) {
+                    break;
+                }
+                boolean redundant = selected.stream().anyMatch(chosen ->
+                        cosine(vectorOf.get(chosen), vectorOf.get(article)) >= REDUNDANCY_THRESHOLD);
+                if (!redundant) {
+                    selected.add(article);
+                }
+            }
+
+            appendSection(summary, bucket.getKey().getNewsHeading(),
+                    selected.stream().filter(article -> !isAnticipated(article)).toList());
+            appendSection(summary, bucket.getKey().getAnticipatedHeading(),
+                    selected.stream().filter(ExtractiveSummarizer::isAnticipated).toList());
+
+            Article lead = selected.get(0);
+            if (scores.get(lead) > pickScore) {
+                pick = lead;
+                pickScore = scores.get(lead);
+            }
+        }
+
+        if (pick != null) {
+            summary.append("## Worth Your Time Today\n- ").append(bullet(pick)).append("\n");
+        }
+        return summary.toString();
+    }
+
+    private static void appendSection(StringBuilder summary, String heading, List<Article> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        summary.append(heading).append("\n");
+        articles.forEach(article -> summary.append("- ").append(bullet(article)).append("\n"));
+        summary.append("\n");
+    }
+
+    private static String bullet(Article article) {
+        String lead = leadSentence(article.getDescription());
+        return "**" + article.getTitle().trim() + "**" + (lead != null ? ": " + lead : "");
+    }
+
+    private static String leadSentence(String description) {
+        if (description == null || description.isBlank()) {
+            return null;
+        }
+        String lead = SENTENCE_END.split(description.trim(), 2)[0];
+        if (lead.length() > MAX_BULLET_CHARS) {
+            int cut = lead.lastIndexOf(' ', MAX_BULLET_CHARS);
+            lead = lead.substring(0, cut > 0 ? cut : MAX_BULLET_CHARS) + "…";
+        }
+        return lead;
+    }
+
+    private static boolean isAnticipated(Article article) {
+        return ANTICIPATED.matcher(article.getTitle()).find()
+                || (article.getDescription() != null && ANTICIPATED.matcher(article.getDescription()).find());
+    }
+
+    /**
+     * L2-normalised TF-IDF vectors; title terms count double.
+     */
+    private static List<Map<String, Double>> tfIdf(List<Article> articles) {
+        List<Map<String, Integer>> termCounts = new ArrayList<>(articles.size());
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (Article article : articles) {
+            Map<String, Integer> counts = new HashMap<>();
+            addTerms(counts, article.getTitle(), 2);
+            addTerms(counts, article.getDescription(), 1);
+            counts.keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+            termCounts.add(counts);
+        }
+
+        int n = articles.size();
+        List<Map<String, Double>> vectors = new ArrayList<>(n);
+        for (Map<String, Integer> counts : termCounts) {
+            Map<String, Double> vector = new HashMap<>();
+            double norm = 0;
+            for (Map.Entry<String, Integer> term : counts.entrySet()) {
+                double idf = Math.log((n + 1.0) / (documentFrequency.get(term.getKey()) + 1.0)) + 1.0;
+                double weight = (1 + Math.log(term.getValue())) * idf;
+                vector.put(term.getKey(), weight);
+                norm += weight * weight;
+            }
+            double length = Math.sqrt(norm);
+            if (length > 0) {
+                vector.replaceAll((term, weight) -> weight / length);
+            }
+            vectors.add(vector);
+        }
+        return vectors;
+    }
+
+    private static void addTerms(Map<String, Integer> counts, String text, int weight) {
+        if (text == null) {
+            return;
+        }
+        for (String word : WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.length() >= 3 && !STOP_WORDS.contains(word)) {
+                counts.merge(word, weight, Integer::sum);
+            }
+        }
+    }
+
+    private static double cosine(Map<String, Double> a, Map<String, Double> b) {
+        Map<String, Double> small = a.size() <= b.size() ? a : b;
+        Map<String, Double> large = small == a ? b : a;
+        double dot = 0;
+        double largeNorm = 0;
+        for (double weight : large.values()) {
+            largeNorm += weight * weight;
+        }
+        for (Map.Entry<String, Double> term : small.entrySet()) {
+            Double other = large.get(term.getKey());
+            if (other != null) {
+                dot += term.getValue() * other;
+            }
+        }
+        double smallNorm = 0;
+        for (double weight : small.values()) {
+            smallNorm += weight * weight;
+        }
+        return smallNorm == 0 || largeNorm == 0 ? 0 : dot / Math.sqrt(smallNorm * largeNorm);
+    }
+}
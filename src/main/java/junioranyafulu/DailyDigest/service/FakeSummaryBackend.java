@@ -0,0 +1,141 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.domain.ContentDomain;
+import junioranyafulu.DailyDigest.dto.Article;
+import junioranyafulu.DailyDigest.dto.LlmCompletion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process stand-in for an LLM, for benchmarks and load tests that should exercise the
+ * rest of the pipeline without Ollama. The output is derived deterministically from the
+ * articles in the prompt and follows the format each prompt asks for; latency is a fixed
+ * time to first token plus a steady token rate.
+ */
+@Component
+public class FakeSummaryBackend implements SummaryBackend {
+
+    public static final String NAME = "fake";
+
+    private static final Pattern TITLE_LINE = Pattern.compile("^(?:\\d+\\. )?Title: (.*)$");
+    private static final Pattern BOLD = Pattern.compile("\\*\\*([^*]+)\\*\\*");
+
+    private final ArticleClassifier articleClassifier;
+    private final Duration firstTokenLatency;
+    private final Duration tokenInterval;
+
+    @Autowired
+    public FakeSummaryBackend(
+            ArticleClassifier articleClassifier,
+            @Value("${digest.summary.backends.fake.first-token-latency:PT0.5S}") Duration firstTokenLatency,
+            @Value("${digest.summary.backends.fake.tokens-per-second:50}") double tokensPerSecond) {
+        this.articleClassifier = articleClassifier;
+        this.firstTokenLatency = firstTokenLatency;
+        this.tokenInterval = Duration.ofNanos((long) (1_000_000_000L / Math.max(tokensPerSecond, 0.001)));
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Mono<LlmCompletion> complete(String prompt, Consumer<String> onChunk) {
+        String text = respond(prompt);
+        List<String> chunks = chunks(text);
+        long promptTokens = PromptBudgeter.estimateTokens(prompt);
+
+        return Mono.delay(firstTokenLatency)
+                .thenMany(Flux.fromIterable(chunks).delayElements(tokenInterval))
+                .doOnNext(chunk -> {
+                    if (onChunk != null) {
+                        onChunk.accept(chunk);
+                    }
+                })
+                .then(Mono.just(new LlmCompletion(NAME, text, promptTokens, chunks.size())));
+    }
+
+    /**
+     * The full text {@link #complete} produces for the prompt, without the simulated latency.
+     */
+    public String respond(String prompt) {
+        List<Article> articles = parseArticles(prompt);
+        if (prompt.contains("<number> | NEWS |")) {
+            StringBuilder lines = new StringBuilder();
+            for (int i = 0; i < articles.size(); i++) {
+                lines.append(i + 1).append(" | NEWS | ").append(bullet(articles.get(i))).append("\n");
+            }
+            return lines.toString();
+        }
+        if (prompt.contains("Digest sections:")) {
+            Matcher pick = BOLD.matcher(prompt.substring(prompt.indexOf("Digest sections:")));
+            String subject = pick.find() ? pick.group(1) : "Today's digest";
+            return "## Worth Your Time Today\n- **" + subject + "**: The standout story of the day.\n";
+        }
+
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<ContentDomain, List<Article>> bucket : articleClassifier.classify(articles).entrySet()) {
+            if (bucket.getValue().isEmpty()) {
+                continue;
+            }
+            summary.append(bucket.getKey().getNewsHeading()).append("\n");
+            bucket.getValue().forEach(article -> summary.append("- ").append(bullet(article)).append("\n"));
+            summary.append("\n");
+        }
+        if (!articles.isEmpty()) {
+            summary.append("## Worth Your Time Today\n- ").append(bullet(articles.get(0))).append("\n");
+        }
+        return summary.toString();
+    }
+
+    private static String bullet(Article article) {
+        String description = article.getDescription();
+        if (description == null || "N/A".equals(description)) {
+            description = "Developing story.";
+        }
+        int sentenceEnd = description.indexOf(". ");
+        return "**" + article.getTitle() + "**: "
+                + (sentenceEnd > 0 ? description.substring(0, sentenceEnd + 1) : description);
+    }
+
+    private static List<Article> parseArticles(String prompt) {
+        List<Article> articles = new ArrayList<>();
+        Article current = null;
+        for (String line : prompt.split("\n")) {
+            Matcher title = TITLE_LINE.matcher(line);
+            if (title.matches()) {
+                current = Article.builder().title(title.group(1).trim()).build();
+                articles.add(current);
+            } else if (current != null && line.startsWith("Description: ")) {
+                current.setDescription(line.substring(13).trim());
+            }
+        }
+        return articles;
+    }
+
+    /**
+     * Splits the text into word-sized chunks, roughly one per token.
+     */
+    private static List<String> chunks(String text) {
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= text.length(); i++) {
+            if (i == text.length() || text.charAt(i) == ' ' || text.charAt(i) == '\n') {
+                chunks.add(text.substring(start, i));
+                start = i;
+            }
+        }
+        return chunks;
+    }
+}
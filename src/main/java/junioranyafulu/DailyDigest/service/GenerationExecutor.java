@@ -0,0 +1,147 @@
+package junioranyafulu.DailyDigest.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Runs the outbound calls of the generation pipeline on the dedicated I/O executor, with a
+ * concurrency limit per source. Time spent waiting for a permit and time spent in the call
+ * itself are timed separately as {@code digest.execution.queue} and {@code digest.execution.io},
+ * tagged with the source. Reactive calls get the same limit and timers through
+ * {@link #limit(String, Mono)}, without a thread per call.
+ */
+@Service
+@Slf4j
+public class GenerationExecutor {
+
+    private final ExecutorService executor;
+    private final MeterRegistry registry;
+    private final Environment environment;
+    private final int defaultLimit;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GenerationExecutor(
+            @Qualifier("generationIoExecutor") ExecutorService executor,
+            MeterRegistry registry,
+            Environment environment,
+            @Value("${digest.execution.default-source-concurrency:4}") int defaultLimit) {
+        this.executor = executor;
+        this.registry = registry;
+        this.environment = environment;
+        this.defaultLimit = defaultLimit;
+    }
+
+    public <T> CompletableFuture<T> supply(String source, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> {
+            Semaphore semaphore = permits.computeIfAbsent(source, this::newSemaphore);
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            long startedAt = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                semaphore.release();
+                record(source, submittedAt, startedAt);
+            }
+        }, executor);
+    }
+
+    /**
+     * Subscribes to {@code call} once the source has a free slot. Calls queue in a per-source
+     * lane that runs at most the source's limit at a time, so a waiting call holds no thread.
+     * Cancelling the returned {@code Mono} cancels the call, or drops it if it has not started.
+     */
+    public <T> Mono<T> limit(String source, Mono<T> call) {
+        return Mono.defer(() -> {
+            long submittedAt = System.nanoTime();
+            Sinks.One<T> result = Sinks.one();
+            Sinks.One<Boolean> cancel = Sinks.one();
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Mono<Void> task = Mono.defer(() -> {
+                if (cancelled.get()) {
+                    return Mono.empty();
+                }
+                long startedAt = System.nanoTime();
+                return call.takeUntilOther(cancel.asMono())
+                        .doOnSuccess(value -> {
+                            if (value != null) {
+                                result.tryEmitValue(value);
+                            } else {
+                                result.tryEmitEmpty();
+                            }
+                        })
+                        .doOnError(result::tryEmitError)
+                        .doFinally(signal -> record(source, submittedAt, startedAt))
+                        .onErrorResume(e -> Mono.empty())
+                        .then();
+            });
+            lanes.computeIfAbsent(source, Lane::new).submit(task);
+            return result.asMono().doOnCancel(() -> {
+                cancelled.set(true);
+                cancel.tryEmitValue(true);
+            });
+        });
+    }
+
+    private void record(String source, long submittedAt, long startedAt) {
+        long finishedAt = System.nanoTime();
+        registry.timer("digest.execution.queue", "source", source)
+                .record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+        registry.timer("digest.execution.io", "source", source)
+                .record(finishedAt - startedAt, TimeUnit.NANOSECONDS);
+        log.debug("{} finished: queued {} ms, I/O {} ms", source,
+                (startedAt - submittedAt) / 1_000_000, (finishedAt - startedAt) / 1_000_000);
+    }
+
+    private Semaphore newSemaphore(String source) {
+        return new Semaphore(limitFor(source), true);
+    }
+
+    private int limitFor(String source) {
+        return environment.getProperty("digest.execution.source-concurrency." + source, Integer.class, defaultLimit);
+    }
+
+    /**
+     * Queue of one source's reactive calls, drained by a {@code flatMap} bounded by the
+     * source's limit; unicast buffers what is waiting.
+     */
+    private final class Lane {
+        private final Sinks.Many<Mono<Void>> tasks = Sinks.many().unicast().onBackpressureBuffer();
+
+        Lane(String source) {
+            tasks.asFlux()
+                    .flatMap(task -> task, limitFor(source))
+                    .subscribe();
+        }
+
+        void submit(Mono<Void> task) {
+            // Sinks reject concurrent emissions; callers on other threads retry briefly
+            tasks.emitNext(task, Sinks.EmitFailureHandler.busyLooping(Duration.ofSeconds(1)));
+        }
+    }
+}
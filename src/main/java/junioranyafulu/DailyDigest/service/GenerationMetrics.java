@@ -0,0 +1,139 @@
+package junioranyafulu.DailyDigest.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer timers for the stages of a digest generation, and the per-stage breakdown of the
+ * most recent run of each pipeline. Stages are timed as {@code digest.generation.stage}
+ * (tagged pipeline, phase, stage), whole runs as {@code digest.generation} (tagged pipeline,
+ * outcome), and stored payloads as the {@code digest.payload.size} distribution.
+ */
+@Service
+@Slf4j
+public class GenerationMetrics {
+
+    public static final String BLOCKING = "blocking";
+    public static final String REACTIVE = "reactive";
+    public static final String LATE_PATCH = "late_patch";
+
+    /** The version with the LLM summary; the extractive draft runs the same stages first. */
+    static final String FINAL = "final";
+    static final String DRAFT = "draft";
+
+    private final MeterRegistry registry;
+    private final Map<String, Run> lastRuns = new ConcurrentHashMap<>();
+
+    @Autowired
+    public GenerationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Recorder start(String pipeline) {
+        return new Recorder(pipeline, FINAL, new LinkedHashMap<>(), System.nanoTime());
+    }
+
+    public Map<String, Run> lastRuns() {
+        return new TreeMap<>(lastRuns);
+    }
+
+    /**
+     * Records the size of a stored or served payload, e.g. a raw data column or a rendered
+     * edition, tagged with its kind.
+     */
+    public void recordPayload(String kind, long bytes) {
+        DistributionSummary.builder("digest.payload.size")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("kind", kind)
+                .register(registry)
+                .record(bytes);
+    }
+
+    /**
+     * Times the stages of one run. Phase views share the breakdown, with stage names prefixed
+     * by the phase ({@code draft.render}); the final phase is unprefixed.
+     */
+    public final class Recorder {
+        private final String pipeline;
+        private final String phase;
+        private final Map<String, Long> stages;
+        private final long startedAt;
+
+        private Recorder(String pipeline, String phase, Map<String, Long> stages, long startedAt) {
+            this.pipeline = pipeline;
+            this.phase = phase;
+            this.stages = stages;
+            this.startedAt = startedAt;
+        }
+
+        public Recorder phase(String phase) {
+            return new Recorder(pipeline, phase, stages, startedAt);
+        }
+
+        public <T> T time(String stage, Supplier<T> task) {
+            long start = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                record(stage, start);
+            }
+        }
+
+        public void record(String stage, long startNanos) {
+            long nanos = System.nanoTime() - startNanos;
+            Timer.builder("digest.generation.stage")
+                    .tag("pipeline", pipeline)
+                    .tag("phase", phase)
+                    .tag("stage", stage)
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            String key = FINAL.equals(phase) ? stage : phase + "." + stage;
+            synchronized (stages) {
+                stages.merge(key, nanos / 1_000_000, Long::sum);
+            }
+        }
+
+        /**
+         * Stage milliseconds recorded so far in execution order, plus the elapsed {@code total}.
+         */
+        public Map<String, Long> breakdown() {
+            Map<String, Long> breakdown;
+            synchronized (stages) {
+                breakdown = new LinkedHashMap<>(stages);
+            }
+            breakdown.put("total", (System.nanoTime() - startedAt) / 1_000_000);
+            return breakdown;
+        }
+
+        public void finish(String outcome) {
+            long nanos = System.nanoTime() - startedAt;
+            Timer.builder("digest.generation")
+                    .tag("pipeline", pipeline)
+                    .tag("outcome", outcome)
+                    .register(registry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            Map<String, Long> breakdown = breakdown();
+            breakdown.remove("total");
+            Run run = new Run(pipeline, outcome, LocalDateTime.now(), nanos / 1_000_000, breakdown);
+            lastRuns.put(pipeline, run);
+            log.info("Generation ({}) {} in {} ms: {}", pipeline, outcome, run.totalMillis(), run.stages());
+        }
+    }
+
+    public record Run(String pipeline, String outcome, LocalDateTime finishedAt, long totalMillis,
+            Map<String, Long> stages) {
+    }
+}
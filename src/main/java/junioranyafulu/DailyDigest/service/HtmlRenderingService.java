@@ -11,6 +11,7 @@ import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
 import java.util.List;
+import java.util.Locale;
 
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
@@ -19,6 +20,11 @@ import org.commonmark.renderer.html.HtmlRenderer;
 @Slf4j
 public class HtmlRenderingService {
 
+    /**
+     * Editions the digest can be rendered in, matching the tabs in digest-template.
+     */
+    public static final List<String> EDITIONS = List.of("all", "gaming", "movies", "tv");
+
     private final TemplateEngine templateEngine;
     private final Parser parser;
     private final HtmlRenderer renderer;
@@ -86,6 +92,26 @@ public class HtmlRenderingService {
         }
     }
 
+    /**
+     * Renders a Markdown fragment (e.g. a partial summary) to HTML.
+     */
+    public String renderMarkdown(String markdown) {
+        return renderer.render(parser.parse(markdown));
+    }
+
+    public static boolean isKnownEdition(String edition) {
+        return edition != null && EDITIONS.contains(normalizeEdition(edition));
+    }
+
+    /**
+     * Canonical form of a requested edition ({@code ?type=Gaming} is {@code gaming}). The
+     * template compares editions case-sensitively, so callers normalise once and pass the
+     * result to both the renderer and the HTML cache.
+     */
+    public static String normalizeEdition(String edition) {
+        return edition != null ? edition.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
     private String generateErrorHtml(Digest digest, Exception e) {
         return String.format(
                 "<!DOCTYPE html><html><head><title>Error</title></head>" +
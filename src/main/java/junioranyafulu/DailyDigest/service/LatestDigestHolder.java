@@ -0,0 +1,153 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.domain.Digest;
+import junioranyafulu.DailyDigest.domain.DigestMetadata;
+import junioranyafulu.DailyDigest.repository.DigestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Application-level pointer to the latest completed digest, so the read path does not
+ * query the database on every request. It is published by {@link DailyDigestService} when a
+ * generation finishes, warmed at startup, and reconciled with the database on a fixed delay
+ * so instances that did not run the generation pick up the new digest too.
+ */
+@Service
+@Slf4j
+public class LatestDigestHolder {
+
+    // Lazy columns the read path needs; timings are only read through their own projection
+    private static final List<String> LAZY_PROPERTIES = List.of(
+            "summary", "htmlContent", "rawGames", "rawMovies", "rawTV");
+
+    private final DigestRepository digestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicReference<Digest> current = new AtomicReference<>();
+
+    @Autowired
+    public LatestDigestHolder(DigestRepository digestRepository, PlatformTransactionManager transactionManager) {
+        this.digestRepository = digestRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public Optional<Digest> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /**
+     * Publishes a digest as the current one, unless a newer digest is already held. A digest
+     * returned by {@code save} for an existing row (a same-day regeneration or a late patch)
+     * can carry an uninitialised {@code sections} bag, so it is then reloaded and initialised
+     * like {@link #refresh()} does.
+     */
+    public void publish(Digest digest) {
+        Digest initialized = isInitialized(digest) ? digest : transactionTemplate.execute(status ->
+                digestRepository.findById(digest.getId()).map(LatestDigestHolder::initialize).orElse(null));
+        if (initialized == null) {
+            log.warn("Digest {} disappeared before it could be published", digest.getId());
+            return;
+        }
+        current.accumulateAndGet(initialized, (held, candidate) -> isNewer(candidate, held) ? candidate : held);
+        log.info("Published digest {} ({}) as latest", digest.getId(), digest.getDate());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Could not warm latest digest: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Compares the held digest with the version stamp (id + updatedAt) of the latest completed
+     * row and reloads it when another instance, or a manual edit, produced a newer one.
+     */
+    @Scheduled(fixedDelayString = "${digest.latest.poll-interval:PT1M}",
+            initialDelayString = "${digest.latest.poll-interval:PT1M}")
+    public void poll() {
+        try {
+            Optional<DigestMetadata> latest = digestRepository.findLatestCompletedMetadata();
+            Digest held = current.get();
+            if (latest.isEmpty()) {
+                return;
+            }
+            if (held == null || !Objects.equals(held.getId(), latest.get().getId())
+                    || !Objects.equals(truncate(held.getUpdatedAt()), truncate(latest.get().getUpdatedAt()))) {
+                log.info("Latest digest version changed in the database, reloading");
+                refresh();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to poll latest digest version: {}", e.getMessage());
+        }
+    }
+
+    public void refresh() {
+        Digest latest = transactionTemplate.execute(status -> digestRepository.findLatestCompleted()
+                .map(LatestDigestHolder::initialize)
+                .orElse(null));
+        if (latest == null) {
+            log.info("No completed digest to hold yet");
+            return;
+        }
+        current.set(latest);
+        log.info("Loaded digest {} ({}) as latest", latest.getId(), latest.getDate());
+    }
+
+    /**
+     * Touches the lazy columns and collections while the session is open so the held
+     * instance can be serialized and rendered after it is detached. Each lazy group of
+     * {@link Digest} is one select, and the timings group is never loaded here.
+     */
+    private static Digest initialize(Digest digest) {
+        digest.getSummary();
+        digest.getHtmlContent();
+        digest.getRawGames();
+        digest.getRawMovies();
+        digest.getRawTV();
+        Hibernate.initialize(digest.getSections());
+        return digest;
+    }
+
+    private static boolean isInitialized(Digest digest) {
+        for (String property : LAZY_PROPERTIES) {
+            if (!Hibernate.isPropertyInitialized(digest, property)) {
+                return false;
+            }
+        }
+        return Hibernate.isInitialized(digest.getSections());
+    }
+
+    private static LocalDateTime truncate(LocalDateTime timestamp) {
+        // The database may store fewer fractional digits than the JVM clock produces
+        return timestamp != null ? timestamp.truncatedTo(ChronoUnit.MILLIS) : null;
+    }
+
+    private static boolean isNewer(Digest candidate, Digest held) {
+        if (held == null) {
+            return true;
+        }
+        int byDate = candidate.getDate().compareTo(held.getDate());
+        if (byDate != 0) {
+            return byDate > 0;
+        }
+        return held.getUpdatedAt() == null || candidate.getUpdatedAt() == null
+                || !candidate.getUpdatedAt().isBefore(held.getUpdatedAt());
+    }
+}
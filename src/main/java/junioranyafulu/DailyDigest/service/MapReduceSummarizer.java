@@ -0,0 +1,230 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.domain.ArticleBullet;
+import junioranyafulu.DailyDigest.domain.ContentDomain;
+import junioranyafulu.DailyDigest.dto.Article;
+import junioranyafulu.DailyDigest.dto.LlmCompletion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Summarises each content domain with its own small prompt, concurrently, then runs a short
+ * reduce prompt over the written sections for the "Worth Your Time Today" pick. The map
+ * stage writes one bullet per article and caches it, so only articles not seen in an earlier
+ * run need inference; bullets written by a fallback backend are used but not cached.
+ * Sections are assembled in the fixed digest order, keeping the layout of the single-prompt
+ * summary.
+ */
+@Service
+@Slf4j
+public class MapReduceSummarizer {
+
+    static final String STRATEGY = "map-reduce";
+
+    private static final Pattern BULLET_LINE = Pattern.compile(
+            "^\\s*\\[?(\\d+)[\\].)]?\\s*\\|\\s*(NEWS|ANTICIPATED|SKIP)\\s*\\|?\\s*(.*)$", Pattern.CASE_INSENSITIVE);
+
+    private final SummaryBackendRouter backendRouter;
+    private final SummaryPrompts summaryPrompts;
+    private final ArticleClassifier articleClassifier;
+    private final GenerationExecutor generationExecutor;
+    private final SummaryStats summaryStats;
+    private final SummaryCache summaryCache;
+
+    @Autowired
+    public MapReduceSummarizer(SummaryBackendRouter backendRouter, SummaryPrompts summaryPrompts,
+            ArticleClassifier articleClassifier, GenerationExecutor generationExecutor, SummaryStats summaryStats,
+            SummaryCache summaryCache) {
+        this.backendRouter = backendRouter;
+        this.summaryPrompts = summaryPrompts;
+        this.articleClassifier = articleClassifier;
+        this.generationExecutor = generationExecutor;
+        this.summaryStats = summaryStats;
+        this.summaryCache = summaryCache;
+    }
+
+    /**
+     * Blocking variant of {@link #summarizeAsync(List)}.
+     */
+    public LlmCompletion summarize(List<Article> articles) {
+        return summarizeAsync(articles).block();
+    }
+
+    /**
+     * Returns the assembled summary. Its backend is the preferred one when every inference
+     * stage ran there, otherwise the backends involved joined with {@code +}. Inference is
+     * composed without blocking; only the bullet cache reads and writes hop to the bounded
+     * elastic scheduler.
+     */
+    public Mono<LlmCompletion> summarizeAsync(List<Article> articles) {
+        return Mono.defer(() -> {
+            SummaryStats.Recorder run = summaryStats.start(STRATEGY);
+            Set<String> backends = ConcurrentHashMap.newKeySet();
+            LongAdder promptTokens = new LongAdder();
+            LongAdder generationTokens = new LongAdder();
+            Consumer<LlmCompletion> usage = completion -> {
+                backends.add(completion.backend());
+                promptTokens.add(completion.promptTokens());
+                generationTokens.add(completion.generationTokens());
+            };
+
+            return Mono.fromCallable(() -> {
+                        Map<ContentDomain, List<Article>> buckets = run.time("classify",
+                                () -> articleClassifier.classify(articles));
+                        Map<String, ArticleBullet> cached = run.time("bullet-cache", () -> summaryCache.findBullets(
+                                articles.stream().map(summaryCache::articleKey).toList()));
+                        return new Prepared(buckets, cached);
+                    })
+                    .subscribeOn(Schedulers.boundedElastic())
+                    // Map: one prompt per domain with uncached articles, bounded by the "summary" source limit;
+                    // flatMapSequential keeps the sections in the fixed digest order
+                    .flatMap(prepared -> Flux.fromIterable(prepared.buckets().entrySet())
+                            .filter(bucket -> !bucket.getValue().isEmpty())
+                            .flatMapSequential(bucket -> bulletsFor(bucket.getKey(), bucket.getValue(),
+                                    prepared.cached(), run, usage)
+                                    .map(bullets -> {
+                                        StringBuilder section = new StringBuilder();
+                                        appendSections(section, bucket.getKey(), bullets);
+                                        return section.toString();
+                                    })
+                                    .onErrorResume(e -> {
+                                        log.warn("Summary for {} failed, omitting the section",
+                                                bucket.getKey().getLabel());
+                                        return Mono.empty();
+                                    }))
+                            .collect(Collectors.joining()))
+                    .flatMap(sections -> {
+                        if (sections.isEmpty()) {
+                            return Mono.error(new IllegalStateException("No content domain could be summarised"));
+                        }
+                        // Reduce: only the cross-domain pick needs to see everything
+                        long start = System.nanoTime();
+                        return backendRouter.complete(summaryPrompts.buildMergePrompt(sections), null)
+                                .doOnNext(pick -> {
+                                    run.record("reduce", start, pick);
+                                    usage.accept(pick);
+                                })
+                                .map(pick -> sections + pick.text().trim() + "\n")
+                                .onErrorResume(e -> {
+                                    log.warn("Reduce pass failed, publishing the domain sections only: {}",
+                                            e.getMessage());
+                                    return Mono.just(sections);
+                                });
+                    })
+                    .map(summary -> {
+                        String backend = backends.isEmpty()
+                                ? backendRouter.preferred()
+                                : String.join("+", new TreeSet<>(backends));
+                        return new LlmCompletion(backend, summary, promptTokens.sum(), generationTokens.sum());
+                    })
+                    .doFinally(signal -> run.finish());
+        });
+    }
+
+    /**
+     * Bullets for a domain in article order, running inference only for the articles that
+     * have no cached bullet.
+     */
+    private Mono<List<ArticleBullet>> bulletsFor(ContentDomain domain, List<Article> articles,
+            Map<String, ArticleBullet> cached, SummaryStats.Recorder run, Consumer<LlmCompletion> usage) {
+        List<String> keys = articles.stream().map(summaryCache::articleKey).toList();
+        List<Article> missing = new ArrayList<>();
+        List<String> missingKeys = new ArrayList<>();
+        for (int i = 0; i < articles.size(); i++) {
+            if (!cached.containsKey(keys.get(i))) {
+                missing.add(articles.get(i));
+                missingKeys.add(keys.get(i));
+            }
+        }
+        log.debug("{}: {} of {} article bullets cached", domain.getLabel(), articles.size() - missing.size(),
+                articles.size());
+
+        if (missing.isEmpty()) {
+            return Mono.just(keys.stream().map(cached::get).toList());
+        }
+
+        String prompt = summaryPrompts.buildDomainPrompt(domain, missing);
+        String stage = "map:" + domain.name().toLowerCase(Locale.ROOT);
+        return generationExecutor.limit("summary", Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    return backendRouter.complete(prompt, null)
+                            .doOnNext(completion -> run.record(stage, start, completion));
+                }))
+                .publishOn(Schedulers.boundedElastic())
+                .map(completion -> {
+                    usage.accept(completion);
+                    Map<String, ArticleBullet> written = parseBullets(completion.text(), missingKeys);
+                    if (completion.backend().equals(backendRouter.preferred())) {
+                        summaryCache.saveBullets(written.values());
+                    }
+                    Map<String, ArticleBullet> all = new HashMap<>(cached);
+                    all.putAll(written);
+                    return keys.stream().map(all::get).filter(bullet -> bullet != null).toList();
+                });
+    }
+
+    private static Map<String, ArticleBullet> parseBullets(String text, List<String> keys) {
+        Map<String, ArticleBullet> bullets = new HashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (String line : text.split("\\R")) {
+            Matcher matcher = BULLET_LINE.matcher(line);
+            if (!matcher.matches()) {
+                continue;
+            }
+            int index = Integer.parseInt(matcher.group(1)) - 1;
+            if (index < 0 || index >= keys.size()) {
+                continue;
+            }
+            ArticleBullet.Kind kind = ArticleBullet.Kind.valueOf(matcher.group(2).toUpperCase(Locale.ROOT));
+            String bullet = matcher.group(3).trim();
+            if (kind != ArticleBullet.Kind.SKIP && bullet.isEmpty()) {
+                continue;
+            }
+            bullets.putIfAbsent(keys.get(index), ArticleBullet.builder()
+                    .articleHash(keys.get(index))
+                    .kind(kind)
+                    .bullet(bullet.startsWith("-") ? bullet.substring(1).trim() : bullet)
+                    .createdAt(now)
+                    .build());
+        }
+        return bullets;
+    }
+
+    private static void appendSections(StringBuilder summary, ContentDomain domain, List<ArticleBullet> bullets) {
+        appendSection(summary, domain.getNewsHeading(), bullets, ArticleBullet.Kind.NEWS);
+        appendSection(summary, domain.getAnticipatedHeading(), bullets, ArticleBullet.Kind.ANTICIPATED);
+    }
+
+    private static void appendSection(StringBuilder summary, String heading, List<ArticleBullet> bullets,
+            ArticleBullet.Kind kind) {
+        List<ArticleBullet> matching = bullets.stream().filter(bullet -> bullet.getKind() == kind).toList();
+        if (matching.isEmpty()) {
+            return;
+        }
+        summary.append(heading).append("\n");
+        matching.forEach(bullet -> summary.append("- ").append(bullet.getBullet()).append("\n"));
+        summary.append("\n");
+    }
+
+    private record Prepared(Map<ContentDomain, List<Article>> buckets, Map<String, ArticleBullet> cached) {
+    }
+}
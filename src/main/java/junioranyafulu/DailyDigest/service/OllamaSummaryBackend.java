@@ -0,0 +1,35 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.client.OllamaClient;
+import junioranyafulu.DailyDigest.dto.LlmCompletion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Consumer;
+
+@Component
+public class OllamaSummaryBackend implements SummaryBackend {
+
+    private final OllamaClient ollamaClient;
+
+    @Autowired
+    public OllamaSummaryBackend(OllamaClient ollamaClient) {
+        this.ollamaClient = ollamaClient;
+    }
+
+    @Override
+    public String name() {
+        return OllamaClient.BACKEND;
+    }
+
+    @Override
+    public Mono<LlmCompletion> complete(String prompt, Consumer<String> onChunk) {
+        if (onChunk != null) {
+            return ollamaClient.completeStreaming(prompt, onChunk);
+        }
+        return Mono.fromCallable(() -> ollamaClient.complete(prompt))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,282 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.domain.ContentDomain;
+import junioranyafulu.DailyDigest.dto.Article;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Pre-inference stage for the summary prompt. It strips boilerplate from the articles, drops
+ * near-duplicate stories (MinHash over word shingles of title and description), and keeps
+ * articles by priority until the prompt fits the token budget. Tokens are estimated at four
+ * characters each, which is close enough for phi3-class tokenizers on English text.
+ */
+@Service
+@Slf4j
+public class PromptBudgeter {
+
+    private static final int SIGNATURE_SIZE = 64;
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    // NewsAPI truncation marker ("... [+2345 chars]"), HTML tags, and trailing "Read more" links
+    private static final Pattern TRUNCATION_MARKER = Pattern.compile("\\s*…?\\s*\\[\\+\\d+ chars]");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]+>");
+    private static final Pattern READ_MORE = Pattern.compile(
+            "(?i)\\s*(read more|continue reading|click here)[.…]*\\s*$");
+    private static final Pattern URL = Pattern.compile("https?://\\S+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SummaryPrompts summaryPrompts;
+    private final ArticleClassifier articleClassifier;
+    private final SummaryStats summaryStats;
+    private final int maxTokens;
+    private final double duplicateThreshold;
+    private final int maxDescriptionChars;
+
+    @Autowired
+    public PromptBudgeter(
+            SummaryPrompts summaryPrompts,
+            ArticleClassifier articleClassifier,
+            SummaryStats summaryStats,
+            @Value("${digest.summary.prompt.max-tokens:1500}") int maxTokens,
+            @Value("${digest.summary.prompt.duplicate-threshold:0.5}") double duplicateThreshold,
+            @Value("${digest.summary.prompt.max-description-chars:300}") int maxDescriptionChars) {
+        this.summaryPrompts = summaryPrompts;
+        this.articleClassifier = articleClassifier;
+        this.summaryStats = summaryStats;
+        this.maxTokens = maxTokens;
+        this.duplicateThreshold = duplicateThreshold;
+        this.maxDescriptionChars = maxDescriptionChars;
+    }
+
+    /**
+     * Returns the cleaned, deduplicated articles that fit the budget, in their original order.
+     */
+    public List<Article> prepare(List<Article> articles) {
+        int tokensBefore = estimateTokens(summaryPrompts.buildPrompt(articles)) + urlTokens(articles);
+
+        List<Article> cleaned = articles.stream()
+                .filter(article -> article.getTitle() != null && !article.getTitle().isBlank())
+                .map(this::clean)
+                .toList();
+        List<Article> unique = deduplicate(cleaned);
+        List<Article> selected = fitBudget(unique);
+
+        int tokensAfter = estimateTokens(summaryPrompts.buildPrompt(selected));
+        SummaryStats.PromptReport report = new SummaryStats.PromptReport(articles.size(),
+                cleaned.size() - unique.size(), unique.size() - selected.size(), selected.size(),
+                tokensBefore, tokensAfter, Math.max(0, tokensBefore - tokensAfter));
+        summaryStats.recordPrompt(report);
+        log.info("Prompt budget: {} articles -> {} ({} duplicates, {} over budget), ~{} tokens saved",
+                report.articlesIn(), report.articlesOut(), report.duplicatesRemoved(), report.droppedForBudget(),
+                report.tokensSaved());
+        return selected;
+    }
+
+    /**
+     * Cleans and deduplicates the articles without budgeting them or recording a report, for
+     * consumers that do not build a prompt.
+     */
+    List<Article> cleanAndDeduplicate(List<Article> articles) {
+        return deduplicate(articles.stream()
+                .filter(article -> article.getTitle() != null && !article.getTitle().isBlank())
+                .map(this::clean)
+                .toList());
+    }
+
+    public static int estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + 3) / 4;
+    }
+
+    private Article clean(Article article) {
+        String description = cleanText(article.getDescription());
+        if (description != null && description.length() > maxDescriptionChars) {
+            int cut = description.lastIndexOf(' ', maxDescriptionChars);
+            description = description.substring(0, cut > 0 ? cut : maxDescriptionChars) + "…";
+        }
+        String publishedAt = article.getPublishedAt();
+        return Article.builder()
+                .author(article.getAuthor())
+                .title(cleanTitle(article.getTitle()))
+                .description(description)
+                .url(article.getUrl())
+                .urlToImage(article.getUrlToImage())
+                .publishedAt(publishedAt != null && publishedAt.length() > 10
+                        ? publishedAt.substring(0, 10)
+                        : publishedAt)
+                .build();
+    }
+
+    /**
+     * NewsAPI titles end with the outlet ("... - Variety"), which the prompt tells the model
+     * not to mention anyway.
+     */
+    private static String cleanTitle(String title) {
+        String cleaned = cleanText(title);
+        int outlet = cleaned.lastIndexOf(" - ");
+        return outlet > 0 && cleaned.length() - outlet <= 40 ? cleaned.substring(0, outlet) : cleaned;
+    }
+
+    private static String cleanText(String text) {
+        if (text == null) {
+            return null;
+        }
+        String cleaned = HTML_TAG.matcher(text).replaceAll(" ");
+        cleaned = TRUNCATION_MARKER.matcher(cleaned).replaceAll("");
+        cleaned = URL.matcher(cleaned).replaceAll("");
+        cleaned = READ_MORE.matcher(cleaned).replaceAll("");
+        cleaned = WHITESPACE.matcher(cleaned).replaceAll(" ").trim();
+        return cleaned.isEmpty() ? null : cleaned;
+    }
+
+    /**
+     * Keeps the first article of every near-duplicate group, upgraded to the most detailed
+     * description in the group.
+     */
+    private List<Article> deduplicate(List<Article> articles) {
+        List<Article> kept = new ArrayList<>();
+        List<long[]> signatures = new ArrayList<>();
+        Set<String> urls = new HashSet<>();
+
+        for (Article article : articles) {
+            if (article.getUrl() != null && !urls.add(article.getUrl())) {
+                continue;
+            }
+            long[] signature = signature(article);
+            int duplicateOf = -1;
+            for (int i = 0; i < signatures.size() && duplicateOf < 0; i++) {
+                if (similarity(signature, signatures.get(i)) >= duplicateThreshold) {
+                    duplicateOf = i;
+                }
+            }
+            if (duplicateOf < 0) {
+                kept.add(article);
+                signatures.add(signature);
+            } else {
+                Article original = kept.get(duplicateOf);
+                log.debug("Dropping near-duplicate '{}' of '{}'", article.getTitle(), original.getTitle());
+                if (length(article.getDescription()) > length(original.getDescription())) {
+                    original.setDescription(article.getDescription());
+                }
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * Adds articles in priority order (domains interleaved so no domain starves, then those
+     * with a description and the most recent first) while they fit the budget.
+     */
+    private List<Article> fitBudget(List<Article> articles) {
+        int instructionTokens = estimateTokens(summaryPrompts.buildPrompt(List.of()));
+        int budget = maxTokens - instructionTokens;
+        Map<ContentDomain, List<Article>> buckets = articleClassifier.classify(articles);
+
+        Comparator<Article> priority = Comparator
+                .comparing((Article article) -> article.getDescription() == null)
+                .thenComparing(Article::getPublishedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+        List<Deque<Article>> queues = new ArrayList<>();
+        Set<Article> classified = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<Article> bucket : buckets.values()) {
+            queues.add(new ArrayDeque<>(bucket.stream().sorted(priority).toList()));
+            classified.addAll(bucket);
+        }
+        queues.add(new ArrayDeque<>(articles.stream()
+                .filter(article -> !classified.contains(article))
+                .sorted(priority)
+                .toList()));
+
+        Set<Article> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        int used = 0;
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (Deque<Article> queue : queues) {
+                Article next = queue.poll();
+                if (next == null) {
+                    continue;
+                }
+                progress = true;
+                int cost = estimateTokens(summaryPrompts.buildPrompt(List.of(next))) - instructionTokens;
+                if (used + cost <= budget) {
+                    selected.add(next);
+                    used += cost;
+                }
+            }
+        }
+        if (selected.isEmpty() && !articles.isEmpty()) {
+            log.warn("Prompt budget of {} tokens leaves no room for articles, keeping one", maxTokens);
+            selected.add(articles.get(0));
+        }
+        return articles.stream().filter(selected::contains).toList();
+    }
+
+    private static long[] signature(Article article) {
+        String text = article.getTitle() + " " + (article.getDescription() != null ? article.getDescription() : "");
+        String[] words = text.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N} ]", " ")
+                .trim()
+                .split("\\s+");
+        long[] signature = new long[SIGNATURE_SIZE];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (int i = 0; i < Math.max(1, words.length - 1); i++) {
+            String shingle = words.length > 1 ? words[i] + ' ' + words[i + 1] : words[0];
+            long hash = shingle.hashCode();
+            for (int s = 0; s < SIGNATURE_SIZE; s++) {
+                long h = mix(hash ^ SEEDS[s]);
+                if (h < signature[s]) {
+                    signature[s] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static double similarity(long[] a, long[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_SIZE;
+    }
+
+    private static int urlTokens(List<Article> articles) {
+        return articles.stream().mapToInt(article -> estimateTokens("URL: " + article.getUrl() + "\n")).sum();
+    }
+
+    private static int length(String text) {
+        return text == null ? 0 : text.length();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb53fe1a85ec3L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -3,74 +3,126 @@ package junioranyafulu.DailyDigest.service;
 import junioranyafulu.DailyDigest.dto.rawg.RawgGame;
 import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie;
 import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Function;
 
+/**
+ * Ranks each list by scoring it with the active {@link ScoringModels} model over columnar
+ * signal arrays, once per item, and selecting the top {@code digest.ranking.top-k} with
+ * {@link TopK} instead of sorting the whole list. Merged candidate pools (trending, upcoming,
+ * popular, top rated) are de-duplicated by id before ranking.
+ */
 @Service
 public class RankingService {
 
+    private final ScoringModels scoringModels;
+    private final int topK;
+
+    @Autowired
+    public RankingService(ScoringModels scoringModels, @Value("${digest.ranking.top-k:20}") int topK) {
+        this.scoringModels = scoringModels;
+        this.topK = topK;
+    }
+
     /**
-     * Rank movies by a score derived from vote average and vote count.
-     * Score = VoteAverage * Log10(VoteCount + 1)
-     * This balances high ratings with statistical significance.
+     * Rank movies by Bayesian-averaged vote, TMDb popularity and closeness of the release
+     * date to today, weighted by the active model.
      */
     public List<TmdbMovie> rankMovies(List<TmdbMovie> movies) {
-        if (movies == null)
-            return List.of();
-        return movies.stream()
-                .sorted(Comparator.comparingDouble(this::calculateMovieScore).reversed())
-                .collect(Collectors.toList());
+        return rank(movies, scoringModels.active().movies(), (movie, columns, row) -> columns.set(row,
+                movie.getVoteAverage(), movie.getVoteCount(), null, orZero(movie.getPopularity()),
+                movie.getReleaseDate()));
     }
 
     /**
-     * Rank TV shows using the same logic as movies.
+     * Rank TV shows like movies, by first air date.
      */
     public List<TmdbTVShow> rankTVShows(List<TmdbTVShow> shows) {
-        if (shows == null)
-            return List.of();
-        return shows.stream()
-                .sorted(Comparator.comparingDouble(this::calculateTVScore).reversed())
-                .collect(Collectors.toList());
+        return rank(shows, scoringModels.active().tv(), (show, columns, row) -> columns.set(row,
+                show.getVoteAverage(), show.getVoteCount(), null, orZero(show.getPopularity()),
+                show.getFirstAirDate()));
     }
 
     /**
-     * Rank games based on Metacritic score (primary) and rating (secondary).
+     * Rank games by Metacritic score and Bayesian-averaged user rating, with the number of
+     * ratings as the popularity signal.
      */
     public List<RawgGame> rankGames(List<RawgGame> games) {
-        if (games == null)
-            return List.of();
-        return games.stream()
-                .sorted(Comparator.comparingDouble(this::calculateGameScore).reversed())
-                .collect(Collectors.toList());
+        return rank(games, scoringModels.active().games(), (game, columns, row) -> columns.set(row,
+                game.getRating(), game.getRatingsCount(), game.getMetacritic(),
+                game.getRatingsCount() != null ? game.getRatingsCount() : 0, game.getReleased()));
+    }
+
+    /**
+     * Ranks several movie lists as one pool; a movie listed more than once keeps its first
+     * occurrence.
+     */
+    public List<TmdbMovie> rankMoviePools(List<List<TmdbMovie>> pools) {
+        return rankMovies(merge(pools, TmdbMovie::getId));
     }
 
-    private double calculateMovieScore(TmdbMovie movie) {
-        if (movie.getVoteAverage() == null || movie.getVoteCount() == null)
-            return 0.0;
-        // Logarithmic scaling for vote count to prevent popularity from completely
-        // dominating quality
-        return movie.getVoteAverage() * Math.log10(movie.getVoteCount() + 1);
+    public List<TmdbTVShow> rankTVShowPools(List<List<TmdbTVShow>> pools) {
+        return rankTVShows(merge(pools, TmdbTVShow::getId));
     }
 
-    private double calculateTVScore(TmdbTVShow show) {
-        if (show.getVoteAverage() == null || show.getVoteCount() == null)
-            return 0.0;
-        return show.getVoteAverage() * Math.log10(show.getVoteCount() + 1);
+    public List<RawgGame> rankGamePools(List<List<RawgGame>> pools) {
+        return rankGames(merge(pools, RawgGame::getId));
     }
 
-    private double calculateGameScore(RawgGame game) {
-        double score = 0.0;
-        // Metacritic is a strong signal (0-100)
-        if (game.getMetacritic() != null) {
-            score += game.getMetacritic();
+    private <T> List<T> rank(List<T> items, Scorer scorer, ColumnWriter<T> writer) {
+        if (items == null)
+            return List.of();
+        @SuppressWarnings("unchecked")
+        T[] candidates = (T[]) items.toArray();
+        ScoringColumns columns = new ScoringColumns(candidates.length);
+        for (int i = 0; i < candidates.length; i++) {
+            writer.write(candidates[i], columns, i);
+        }
+        double[] scores = new double[candidates.length];
+        scorer.score(columns, LocalDate.now().toEpochDay(), scores);
+
+        int[] top = TopK.select(scores, topK);
+        List<T> ranked = new ArrayList<>(top.length);
+        for (int index : top) {
+            ranked.add(candidates[index]);
+        }
+        return ranked;
+    }
+
+    private static <T> List<T> merge(List<List<T>> pools, Function<T, Long> id) {
+        int total = 0;
+        for (List<T> pool : pools) {
+            total += pool != null ? pool.size() : 0;
         }
-        // User rating (0-5) scaled to 0-20 equivalent
-        if (game.getRating() != null) {
-            score += game.getRating() * 4; // Give user rating some weight
+        List<T> merged = new ArrayList<>(total);
+        Set<Long> seen = new HashSet<>(total * 2);
+        for (List<T> pool : pools) {
+            if (pool == null)
+                continue;
+            for (T item : pool) {
+                Long key = id.apply(item);
+                if (key == null || seen.add(key)) {
+                    merged.add(item);
+                }
+            }
         }
-        return score;
+        return merged;
+    }
+
+    private static double orZero(Double value) {
+        return value != null ? value : 0;
+    }
+
+    @FunctionalInterface
+    private interface ColumnWriter<T> {
+        void write(T item, ScoringColumns columns, int row);
     }
 }
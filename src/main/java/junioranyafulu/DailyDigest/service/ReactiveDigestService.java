@@ -0,0 +1,161 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.client.NewsApiClient;
+import junioranyafulu.DailyDigest.client.RAWGClient;
+import junioranyafulu.DailyDigest.client.TMDbClient;
+import junioranyafulu.DailyDigest.domain.Digest;
+import junioranyafulu.DailyDigest.dto.NewsApiResponse;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovieResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVResponse;
+import junioranyafulu.DailyDigest.service.SourceSnapshotService.Fetched;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple4;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Reactive variant of {@link DailyDigestService#generateDailyDigest()}: fetching and
+ * summarisation are composed as one {@code Mono<Digest>} on the clients' event loops, so a
+ * run holds no thread while it waits for an upstream or the model. Only the JPA and
+ * rendering work, which has no non-blocking driver here, hops to the bounded elastic
+ * scheduler. Each source is bounded by its snapshot deadline and the whole run by a single
+ * overall deadline.
+ */
+@Service
+@Slf4j
+public class ReactiveDigestService {
+
+    private final NewsApiClient newsApiClient;
+    private final TMDbClient tmdbClient;
+    private final RAWGClient rawgClient;
+    private final SummaryService summaryService;
+    private final DailyDigestService dailyDigestService;
+    private final SourceSnapshotService sourceSnapshotService;
+    private final GenerationExecutor generationExecutor;
+    private final ReactiveSourceCache sourceCache;
+    private final SummaryStreamService summaryStreamService;
+    private final GenerationMetrics generationMetrics;
+    private final Duration deadline;
+    private final boolean streamingSummary;
+
+    @Autowired
+    public ReactiveDigestService(
+            NewsApiClient newsApiClient,
+            TMDbClient tmdbClient,
+            RAWGClient rawgClient,
+            SummaryService summaryService,
+            DailyDigestService dailyDigestService,
+            SourceSnapshotService sourceSnapshotService,
+            GenerationExecutor generationExecutor,
+            ReactiveSourceCache sourceCache,
+            SummaryStreamService summaryStreamService,
+            GenerationMetrics generationMetrics,
+            @Value("${digest.generation.deadline:PT5M}") Duration deadline,
+            @Value("${digest.summary.streaming:true}") boolean streamingSummary) {
+        this.newsApiClient = newsApiClient;
+        this.tmdbClient = tmdbClient;
+        this.rawgClient = rawgClient;
+        this.summaryService = summaryService;
+        this.dailyDigestService = dailyDigestService;
+        this.sourceSnapshotService = sourceSnapshotService;
+        this.generationExecutor = generationExecutor;
+        this.sourceCache = sourceCache;
+        this.summaryStreamService = summaryStreamService;
+        this.generationMetrics = generationMetrics;
+        this.deadline = deadline;
+        this.streamingSummary = streamingSummary;
+    }
+
+    public Mono<Digest> generateDailyDigest() {
+        return Mono.defer(() -> {
+            GenerationMetrics.Recorder timings = generationMetrics.start(GenerationMetrics.REACTIVE);
+            return generate(timings)
+                    .timeout(deadline)
+                    .doOnSuccess(digest -> timings.finish("success"))
+                    .doOnError(e -> timings.finish("failure"));
+        })
+                .doOnSubscribe(s -> log.info("Starting reactive daily digest generation"))
+                .doOnError(e -> log.error("Error generating daily digest", e))
+                .onErrorMap(e -> new RuntimeException("Failed to generate daily digest", e));
+    }
+
+    private Mono<Digest> generate(GenerationMetrics.Recorder timings) {
+        return Mono.fromCallable(() -> timings.time("start", dailyDigestService::startDigest))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(digest -> timed(timings, "fetch", fetchSources())
+                        .flatMap(fetched -> {
+                            SourceData sources = new SourceData(fetched.getT1().value(), fetched.getT2().value(),
+                                    fetched.getT3().value(), fetched.getT4().value());
+                            SummaryStreamService.Live liveSummary = streamingSummary && sources.hasArticles()
+                                    ? summaryStreamService.begin()
+                                    : null;
+                            // Publish with the extractive summary first, then swap in the AI summary
+                            return Mono.fromCallable(() -> dailyDigestService.publishDraft(digest, sources, timings))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .flatMap(draft -> timed(timings, "summary", summarize(sources, liveSummary))
+                                            .publishOn(Schedulers.boundedElastic())
+                                            .map(summary -> dailyDigestService.completeDigest(draft, sources,
+                                                    summary, timings)))
+                                    .map(completed -> {
+                                        if (liveSummary != null) {
+                                            liveSummary.stored(completed.getSummary());
+                                        }
+                                        dailyDigestService.applyLateSources(completed, sources, completed.getSummary(),
+                                                Map.of("news", fetched.getT1(), "movies", fetched.getT2(),
+                                                        "tv_shows", fetched.getT3(), "games", fetched.getT4()));
+                                        return completed;
+                                    })
+                                    .doFinally(signal -> {
+                                        if (liveSummary != null) {
+                                            summaryStreamService.end(liveSummary);
+                                        }
+                                    });
+                        }));
+    }
+
+    /**
+     * Records the time from subscription to the value as a stage of the run.
+     */
+    private static <T> Mono<T> timed(GenerationMetrics.Recorder timings, String stage, Mono<T> source) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return source.doOnSuccess(value -> timings.record(stage, start));
+        });
+    }
+
+    /**
+     * Reads the same source caches as the blocking pipeline's cached accessors, and a miss
+     * goes through the same per-upstream limits, so neither pipeline can exceed an upstream's
+     * concurrency. The fetches are the clients' non-blocking {@code Mono}s.
+     */
+    private Mono<Tuple4<Fetched<NewsApiResponse>, Fetched<TmdbMovieResponse>, Fetched<TmdbTVResponse>,
+            Fetched<RawgGamesResponse>>> fetchSources() {
+        return Mono.zip(
+                fetch("news", NewsApiResponse.class, "newsapi", newsApiClient::fetchTopHeadlines),
+                fetch("movies", TmdbMovieResponse.class, "tmdb", tmdbClient::fetchTrendingMovies),
+                fetch("tv_shows", TmdbTVResponse.class, "tmdb", tmdbClient::fetchTrendingTVShows),
+                fetch("games", RawgGamesResponse.class, "rawg", rawgClient::fetchTrendingGames));
+    }
+
+    private <T> Mono<Fetched<T>> fetch(String source, Class<T> type, String upstream, Supplier<Mono<T>> call) {
+        Mono<T> response = sourceCache.get(source, type, () -> generationExecutor.limit(upstream, call.get()));
+        return Mono.fromFuture(() -> sourceSnapshotService.withDeadline(source, type, response.toFuture()));
+    }
+
+    private Mono<String> summarize(SourceData sources, SummaryStreamService.Live liveSummary) {
+        if (!sources.hasArticles()) {
+            log.warn("No articles found to summarize");
+            return Mono.just(DailyDigestService.NO_NEWS_SUMMARY);
+        }
+        return summaryService.summarizeAsync(sources.news().getArticles(),
+                liveSummary != null ? liveSummary::append : null);
+    }
+}
@@ -0,0 +1,54 @@
+package junioranyafulu.DailyDigest.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking access to the source caches the clients' {@code @Cacheable} accessors and
+ * {@code SourceCacheRefresher} use, under the same key, so the reactive and blocking
+ * pipelines share one entry per source. A miss subscribes the loader once; concurrent
+ * callers share that in-flight {@code Mono} instead of each fetching the source.
+ */
+@Service
+@Slf4j
+public class ReactiveSourceCache {
+
+    private final CacheManager cacheManager;
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReactiveSourceCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public <T> Mono<T> get(String cacheName, Class<T> type, Supplier<Mono<T>> loader) {
+        return Mono.defer(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            Cache.ValueWrapper hit = cache != null ? cache.get(SimpleKey.EMPTY) : null;
+            if (hit != null && type.isInstance(hit.get())) {
+                log.debug("Cache '{}' hit", cacheName);
+                return Mono.just(type.cast(hit.get()));
+            }
+            // The entry leaves the map only after the value is in the cache, so a later caller
+            // either joins this load or hits the cache
+            return inFlight.computeIfAbsent(cacheName, name -> loader.get()
+                            .doOnNext(value -> {
+                                if (cache != null) {
+                                    cache.put(SimpleKey.EMPTY, value);
+                                }
+                            })
+                            .doFinally(signal -> inFlight.remove(name))
+                            .cache())
+                    .cast(type);
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package junioranyafulu.DailyDigest.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A rendered digest edition together with its pre-compressed representation, so the HTML
+ * endpoints can serve either encoding without spending CPU per request.
+ */
+public record RenderedEdition(String html, byte[] identity, byte[] gzip) {
+
+    public static RenderedEdition of(String html) {
+        byte[] identity = html.getBytes(StandardCharsets.UTF_8);
+        return new RenderedEdition(html, identity, gzip(identity));
+    }
+
+    public long sizeInBytes() {
+        // Java strings are at most 2 bytes per char; good enough for sizing the cache
+        return 2L * html.length() + identity.length + gzip.length;
+    }
+
+    static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        // Compression happens once per edition, so spend the CPU on the best ratio
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip rendered digest", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,52 @@
+package junioranyafulu.DailyDigest.service;
+
+/**
+ * {@link ScoringWeights} compiled into the constants of one loop over {@link ScoringColumns}.
+ * Scoring allocates nothing; reciprocals and the decay rate are computed once here.
+ */
+final class Scorer {
+
+    private final ScoringWeights weights;
+    private final double priorVotes;
+    private final double priorTotal;
+    private final double inverseRatingScale;
+    private final double inverseCriticScale;
+    private final double inverseLogPopularityScale;
+    private final double decayPerDay;
+
+    Scorer(ScoringWeights weights) {
+        this.weights = weights;
+        this.priorVotes = weights.priorVotes();
+        this.priorTotal = weights.priorVotes() * weights.priorMean();
+        this.inverseRatingScale = 1.0 / weights.ratingScale();
+        this.inverseCriticScale = 1.0 / weights.criticScale();
+        this.inverseLogPopularityScale = 1.0 / Math.log1p(weights.popularityScale());
+        this.decayPerDay = Math.log(2) / weights.halfLifeDays();
+    }
+
+    ScoringWeights weights() {
+        return weights;
+    }
+
+    void score(ScoringColumns columns, double today, double[] scores) {
+        double qualityWeight = weights.quality();
+        double criticWeight = weights.critic();
+        double popularityWeight = weights.popularity();
+        double recencyWeight = weights.recency();
+        double[] rating = columns.rating;
+        double[] votes = columns.votes;
+        double[] critic = columns.critic;
+        double[] popularity = columns.popularity;
+        double[] releaseDay = columns.releaseDay;
+
+        for (int i = 0; i < columns.size; i++) {
+            double evidence = votes[i] + priorVotes;
+            double quality = evidence > 0 ? (votes[i] * rating[i] + priorTotal) / evidence * inverseRatingScale : 0;
+            double criticScore = Double.isNaN(critic[i]) ? quality : critic[i] * inverseCriticScale;
+            double popular = Math.min(1.0, Math.log1p(popularity[i]) * inverseLogPopularityScale);
+            double recency = Double.isNaN(releaseDay[i]) ? 0 : Math.exp(-Math.abs(today - releaseDay[i]) * decayPerDay);
+            scores[i] = qualityWeight * quality + criticWeight * criticScore + popularityWeight * popular
+                    + recencyWeight * recency;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package junioranyafulu.DailyDigest.service;
+
+/**
+ * Ranking signals of a candidate list laid out as one primitive array per signal, so the
+ * {@link Scorer} loop reads them sequentially without touching the DTOs. Missing critic
+ * scores and release dates are {@code NaN}.
+ */
+final class ScoringColumns {
+
+    final int size;
+    final double[] rating;
+    final double[] votes;
+    final double[] critic;
+    final double[] popularity;
+    final double[] releaseDay;
+
+    ScoringColumns(int size) {
+        this.size = size;
+        this.rating = new double[size];
+        this.votes = new double[size];
+        this.critic = new double[size];
+        this.popularity = new double[size];
+        this.releaseDay = new double[size];
+    }
+
+    void set(int row, Double rating, Integer votes, Integer critic, double popularity, String releaseDate) {
+        // A rating without a vote count carries no evidence; the Bayesian prior takes over
+        boolean rated = rating != null && votes != null;
+        this.rating[row] = rated ? rating : 0;
+        this.votes[row] = rated ? votes : 0;
+        this.critic[row] = critic != null ? critic : Double.NaN;
+        this.popularity[row] = Math.max(popularity, 0);
+        this.releaseDay[row] = epochDay(releaseDate);
+    }
+
+    /**
+     * Days since 1970-01-01 of an ISO {@code yyyy-MM-dd} date (the TMDb and RAWG format), or
+     * {@code NaN} when absent or malformed. Parsed by hand to avoid allocating per row.
+     */
+    static double epochDay(String date) {
+        if (date == null || date.length() < 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return Double.NaN;
+        }
+        int year = digits(date, 0, 4);
+        int month = digits(date, 5, 7);
+        int day = digits(date, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return Double.NaN;
+        }
+        // Days from the civil calendar, with years starting in March so leap days come last
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * ((month + 9) % 12) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097L + dayOfEra - 719468;
+    }
+
+    private static int digits(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,117 @@
+package junioranyafulu.DailyDigest.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Named ranking models, compiled at startup from
+ * {@code digest.ranking.model.<name>.<movies|tv|games>.<parameter>}; a parameter that is not
+ * set keeps the domain default below. One model is active at a time and can be switched at
+ * runtime (see the JMX {@code ranking} endpoint) to compare models without a redeploy.
+ */
+@Service
+@Slf4j
+public class ScoringModels {
+
+    public static final String DEFAULT_MODEL = "balanced";
+
+    static final String MOVIES = "movies";
+    static final String TV = "tv";
+    static final String GAMES = "games";
+
+    // TMDb ratings are 0-10 with vote counts in the thousands; RAWG ratings are 0-5 with
+    // far fewer ratings, and Metacritic is the stronger quality signal for games
+    private static final Map<String, ScoringWeights> DOMAIN_DEFAULTS = Map.of(
+            MOVIES, new ScoringWeights(0.5, 6.5, 200, 10, 0, 100, 0.3, 1000, 0.2, 30),
+            TV, new ScoringWeights(0.5, 7.0, 200, 10, 0, 100, 0.3, 1000, 0.2, 60),
+            GAMES, new ScoringWeights(0.35, 3.5, 50, 5, 0.35, 100, 0.1, 5000, 0.2, 60));
+
+    private final Map<String, ScoringModel> models = new LinkedHashMap<>();
+    private final AtomicReference<ScoringModel> active = new AtomicReference<>();
+
+    @Autowired
+    public ScoringModels(
+            Environment environment,
+            @Value("${digest.ranking.models:balanced}") List<String> names,
+            @Value("${digest.ranking.active-model:balanced}") String activeModel) {
+        for (String name : names) {
+            models.put(name, new ScoringModel(name,
+                    new Scorer(weights(environment, name, MOVIES)),
+                    new Scorer(weights(environment, name, TV)),
+                    new Scorer(weights(environment, name, GAMES))));
+        }
+        activate(activeModel);
+    }
+
+    /**
+     * The built-in defaults only, for use outside the application context.
+     */
+    public static ScoringModels defaults() {
+        return new ScoringModels(new StandardEnvironment(), List.of(DEFAULT_MODEL), DEFAULT_MODEL);
+    }
+
+    public String activeName() {
+        return active.get().name();
+    }
+
+    /**
+     * Makes {@code name} the model for every ranking from now on.
+     */
+    public void activate(String name) {
+        ScoringModel model = models.get(name);
+        if (model == null) {
+            throw new IllegalArgumentException("Unknown ranking model: " + name + " (known: " + models.keySet() + ")");
+        }
+        ScoringModel previous = active.getAndSet(model);
+        if (previous != model) {
+            log.info("Ranking model is now '{}'", name);
+        }
+    }
+
+    /**
+     * Weights of every model by domain.
+     */
+    public Map<String, Map<String, ScoringWeights>> configs() {
+        Map<String, Map<String, ScoringWeights>> configs = new LinkedHashMap<>();
+        models.forEach((name, model) -> {
+            Map<String, ScoringWeights> domains = new LinkedHashMap<>();
+            domains.put(MOVIES, model.movies().weights());
+            domains.put(TV, model.tv().weights());
+            domains.put(GAMES, model.games().weights());
+            configs.put(name, domains);
+        });
+        return configs;
+    }
+
+    ScoringModel active() {
+        return active.get();
+    }
+
+    private static ScoringWeights weights(Environment environment, String model, String domain) {
+        ScoringWeights defaults = DOMAIN_DEFAULTS.get(domain);
+        String prefix = "digest.ranking.model." + model + "." + domain + ".";
+        return new ScoringWeights(
+                environment.getProperty(prefix + "quality", Double.class, defaults.quality()),
+                environment.getProperty(prefix + "prior-mean", Double.class, defaults.priorMean()),
+                environment.getProperty(prefix + "prior-votes", Double.class, defaults.priorVotes()),
+                environment.getProperty(prefix + "rating-scale", Double.class, defaults.ratingScale()),
+                environment.getProperty(prefix + "critic", Double.class, defaults.critic()),
+                environment.getProperty(prefix + "critic-scale", Double.class, defaults.criticScale()),
+                environment.getProperty(prefix + "popularity", Double.class, defaults.popularity()),
+                environment.getProperty(prefix + "popularity-scale", Double.class, defaults.popularityScale()),
+                environment.getProperty(prefix + "recency", Double.class, defaults.recency()),
+                environment.getProperty(prefix + "half-life-days", Double.class, defaults.halfLifeDays()));
+    }
+
+    record ScoringModel(String name, Scorer movies, Scorer tv, Scorer games) {
+    }
+}
@@ -0,0 +1,28 @@
+package junioranyafulu.DailyDigest.service;
+
+/**
+ * Parameters of the ranking score for one content domain. The score is a weighted sum of
+ * signals that are each roughly in {@code [0, 1]}:
+ * <ul>
+ * <li>quality: the Bayesian average {@code (votes * rating + priorVotes * priorMean) / (votes + priorVotes)}
+ * divided by {@code ratingScale}, so a title with few votes is pulled towards the prior mean;</li>
+ * <li>critic: a critic score (Metacritic) divided by {@code criticScale}, or the quality signal
+ * when the title has none;</li>
+ * <li>popularity: {@code log1p(popularity) / log1p(popularityScale)}, capped at 1;</li>
+ * <li>recency: {@code 0.5^(|days from release| / halfLifeDays)}, so titles released or coming
+ * out close to today score higher; 0 without a release date.</li>
+ * </ul>
+ */
+public record ScoringWeights(double quality, double priorMean, double priorVotes, double ratingScale,
+        double critic, double criticScale, double popularity, double popularityScale, double recency,
+        double halfLifeDays) {
+
+    public ScoringWeights {
+        if (ratingScale <= 0 || criticScale <= 0 || popularityScale <= 0 || halfLifeDays <= 0) {
+            throw new IllegalArgumentException("Scoring scales and half-life must be positive");
+        }
+        if (priorVotes < 0) {
+            throw new IllegalArgumentException("Prior votes must not be negative");
+        }
+    }
+}
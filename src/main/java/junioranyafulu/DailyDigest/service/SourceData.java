@@ -0,0 +1,33 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.dto.NewsApiResponse;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovieResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVResponse;
+
+/**
+ * The upstream responses a digest is built from.
+ */
+public record SourceData(
+        NewsApiResponse news,
+        TmdbMovieResponse movies,
+        TmdbTVResponse tvShows,
+        RawgGamesResponse games) {
+
+    public boolean hasArticles() {
+        return news != null && news.getArticles() != null && !news.getArticles().isEmpty();
+    }
+
+    /**
+     * Returns a copy with one source replaced, keyed by the source cache name.
+     */
+    public SourceData with(String source, Object response) {
+        return switch (source) {
+            case "news" -> new SourceData((NewsApiResponse) response, movies, tvShows, games);
+            case "movies" -> new SourceData(news, (TmdbMovieResponse) response, tvShows, games);
+            case "tv_shows" -> new SourceData(news, movies, (TmdbTVResponse) response, games);
+            case "games" -> new SourceData(news, movies, tvShows, (RawgGamesResponse) response);
+            default -> throw new IllegalArgumentException("Unknown source: " + source);
+        };
+    }
+}
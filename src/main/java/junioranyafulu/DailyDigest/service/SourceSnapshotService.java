@@ -0,0 +1,146 @@
+package junioranyafulu.DailyDigest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import junioranyafulu.DailyDigest.config.CacheConfig;
+import junioranyafulu.DailyDigest.domain.SourceSnapshot;
+import junioranyafulu.DailyDigest.repository.SourceSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Stale-while-revalidate for the upstream sources. Every good response is stored as the
+ * source's snapshot; a fetch that misses its per-source deadline, or comes back empty, is
+ * answered from the snapshot instead, and the still-running fetch can patch the digest once
+ * it lands.
+ */
+@Service
+@Slf4j
+public class SourceSnapshotService {
+
+    private final SourceSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final Environment environment;
+    private final Duration defaultDeadline;
+
+    @Autowired
+    public SourceSnapshotService(
+            SourceSnapshotRepository snapshotRepository,
+            ObjectMapper objectMapper,
+            @Qualifier("generationIoExecutor") ExecutorService executor,
+            Environment environment,
+            @Value("${digest.sources.default-deadline:PT8S}") Duration defaultDeadline) {
+        this.snapshotRepository = snapshotRepository;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.environment = environment;
+        this.defaultDeadline = defaultDeadline;
+    }
+
+    /**
+     * Completes with the fresh response if {@code fetch} delivers a non-empty one within the
+     * source's deadline, otherwise with the last snapshot. In the late case the returned
+     * {@link Fetched#pending()} completes with the fresh response when it arrives.
+     */
+    public <T> CompletableFuture<Fetched<T>> withDeadline(String source, Class<T> type, CompletableFuture<T> fetch) {
+        fetch.thenAcceptAsync(response -> {
+            if (!CacheConfig.isNegative(response)) {
+                save(source, response);
+            }
+        }, executor);
+
+        Duration deadline = deadlineFor(source);
+        return fetch.handleAsync((response, error) -> {
+                    if (error != null || CacheConfig.isNegative(response)) {
+                        return fallback(source, type, response, null);
+                    }
+                    return new Fetched<>(response, false, null);
+                }, executor)
+                .completeOnTimeout(null, deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApplyAsync(fetched -> {
+                    if (fetched != null) {
+                        return fetched;
+                    }
+                    log.warn("{} missed its {} deadline, continuing with the snapshot", source, deadline);
+                    CompletableFuture<T> pending = fetch.thenCompose(response -> CacheConfig.isNegative(response)
+                            ? CompletableFuture.<T>failedFuture(new IllegalStateException("empty response"))
+                            : CompletableFuture.completedFuture(response));
+                    return fallback(source, type, null, pending);
+                }, executor);
+    }
+
+    /**
+     * Runs {@code action} on the I/O executor once a late source lands. Failed fetches are
+     * only logged; the digest keeps the snapshot data.
+     */
+    public <T> void onLateArrival(String source, Fetched<T> fetched, Consumer<T> action) {
+        if (fetched.pending() == null) {
+            return;
+        }
+        fetched.pending()
+                .thenAcceptAsync(action, executor)
+                .exceptionally(e -> {
+                    log.warn("Late {} data could not be applied: {}", source, e.getMessage());
+                    return null;
+                });
+    }
+
+    public void save(String source, Object response) {
+        try {
+            snapshotRepository.save(SourceSnapshot.builder()
+                    .source(source)
+                    .payload(objectMapper.writeValueAsString(response))
+                    .fetchedAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.warn("Could not store {} snapshot: {}", source, e.getMessage());
+        }
+    }
+
+    public <T> Optional<T> load(String source, Class<T> type) {
+        try {
+            // findById would return the entity with the lazy payload unloaded and the session closed
+            return snapshotRepository.findPayloadBySource(source)
+                    .map(snapshot -> {
+                        log.info("Using {} snapshot from {}", source, snapshot.getFetchedAt());
+                        try {
+                            return objectMapper.readValue(snapshot.getPayload(), type);
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("Could not read {} snapshot: {}", source, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private <T> Fetched<T> fallback(String source, Class<T> type, T response, CompletableFuture<T> pending) {
+        Optional<T> snapshot = load(source, type);
+        return snapshot.map(value -> new Fetched<>(value, true, pending))
+                .orElseGet(() -> new Fetched<>(response, false, pending));
+    }
+
+    private Duration deadlineFor(String source) {
+        return environment.getProperty("digest.sources.deadline." + source, Duration.class, defaultDeadline);
+    }
+
+    /**
+     * Result of a deadline-bounded fetch. {@code value} may be {@code null} when the source
+     * timed out and has no snapshot yet.
+     */
+    public record Fetched<T>(T value, boolean stale, CompletableFuture<T> pending) {
+    }
+}
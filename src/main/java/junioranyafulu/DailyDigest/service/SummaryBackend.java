@@ -0,0 +1,22 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.dto.LlmCompletion;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+/**
+ * A text-generation backend the summary prompts can run on. Backends are selected by
+ * {@link #name()} in {@code digest.summary.backends.order} and called through
+ * {@link SummaryBackendRouter}, which adds timeouts, concurrency limits and fallback.
+ */
+public interface SummaryBackend {
+
+    String name();
+
+    /**
+     * Runs the prompt to completion. When {@code onChunk} is not {@code null} the backend
+     * should stream, handing every chunk to it as soon as it is produced.
+     */
+    Mono<LlmCompletion> complete(String prompt, Consumer<String> onChunk);
+}
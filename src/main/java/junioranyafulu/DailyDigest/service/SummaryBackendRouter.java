@@ -0,0 +1,210 @@
+package junioranyafulu.DailyDigest.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import junioranyafulu.DailyDigest.dto.LlmCompletion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs summary prompts on the backends listed in {@code digest.summary.backends.order}. Each
+ * backend has its own timeout and concurrency limit; a backend that fails, times out, or has
+ * no free permit hands the prompt to the next one in the list. The last backend waits up to
+ * its timeout for a permit instead of being skipped. The first backend is the preferred one:
+ * only its output is worth caching. Attempts are timed as {@code digest.summary.backend}
+ * (tagged backend and outcome: success, failure or timeout) and prompts a backend had no permit
+ * for are counted as {@code digest.summary.backend.rejected}.
+ */
+@Service
+@Slf4j
+public class SummaryBackendRouter {
+
+    private final List<SummaryBackend> order;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Map<String, Duration> timeouts = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final Environment environment;
+    private final Duration defaultTimeout;
+    private final int defaultConcurrency;
+
+    @Autowired
+    public SummaryBackendRouter(
+            List<SummaryBackend> backends,
+            MeterRegistry registry,
+            Environment environment,
+            @Value("${digest.summary.backends.order:ollama}") List<String> order,
+            @Value("${digest.summary.backends.default-timeout:PT5M}") Duration defaultTimeout,
+            @Value("${digest.summary.backends.default-concurrency:3}") int defaultConcurrency) {
+        this.registry = registry;
+        this.environment = environment;
+        this.defaultTimeout = defaultTimeout;
+        this.defaultConcurrency = defaultConcurrency;
+
+        Map<String, SummaryBackend> byName = new LinkedHashMap<>();
+        backends.forEach(backend -> byName.put(backend.name(), backend));
+        this.order = new ArrayList<>();
+        for (String name : order) {
+            SummaryBackend backend = byName.get(name.trim());
+            if (backend == null) {
+                throw new IllegalStateException("Unknown summary backend '" + name + "', available: "
+                        + byName.keySet());
+            }
+            this.order.add(backend);
+        }
+        if (this.order.isEmpty()) {
+            throw new IllegalStateException("digest.summary.backends.order must name at least one backend");
+        }
+        log.info("Summary backends: {}", order);
+    }
+
+    /**
+     * Name of the preferred backend, the first in the configured order.
+     */
+    public String preferred() {
+        return order.get(0).name();
+    }
+
+    /**
+     * Runs the prompt on the first backend that accepts it. When {@code onChunk} is given,
+     * chunks are streamed from the first attempt only: once an attempt has streamed part of
+     * its answer and then failed, later backends run without streaming so readers never get
+     * two answers spliced together.
+     */
+    public Mono<LlmCompletion> complete(String prompt, Consumer<String> onChunk) {
+        AtomicBoolean streamed = new AtomicBoolean();
+        Consumer<String> tracking = onChunk == null ? null : chunk -> {
+            streamed.set(true);
+            onChunk.accept(chunk);
+        };
+        return attempt(0, prompt, tracking, streamed);
+    }
+
+    /**
+     * Blocking variant of {@link #complete(String, Consumer)} without streaming.
+     */
+    public LlmCompletion complete(String prompt) {
+        return complete(prompt, null).block();
+    }
+
+    private Mono<LlmCompletion> attempt(int index, String prompt, Consumer<String> onChunk, AtomicBoolean streamed) {
+        SummaryBackend backend = order.get(index);
+        String name = backend.name();
+        boolean last = index == order.size() - 1;
+        Permit permit = new Permit(permits.computeIfAbsent(name, n -> new Semaphore(concurrencyFor(n), true)));
+
+        // The last backend waits for a permit, at most its own timeout, off the event loop
+        Mono<Boolean> acquire = last
+                ? Mono.fromCallable(() -> permit.tryAcquire(timeoutFor(name)))
+                        .subscribeOn(Schedulers.boundedElastic())
+                : Mono.fromSupplier(permit::tryAcquire);
+
+        return acquire.flatMap(acquired -> {
+            if (!acquired) {
+                registry.counter("digest.summary.backend.rejected", "backend", name).increment();
+                if (last) {
+                    return Mono.error(new TimeoutException("No free permit for summary backend " + name
+                            + " within " + timeoutFor(name)));
+                }
+                log.debug("Summary backend {} is at its concurrency limit, trying the next one", name);
+                return attempt(index + 1, prompt, onChunk, streamed);
+            }
+            long start = System.nanoTime();
+            Consumer<String> chunks = onChunk != null && !streamed.get() ? onChunk : null;
+            return Mono.defer(() -> backend.complete(prompt, chunks))
+                    .timeout(timeoutFor(name))
+                    .doFinally(signal -> permit.release())
+                    .doOnSuccess(completion -> record(name, "success", start))
+                    .onErrorResume(e -> {
+                        record(name, e instanceof TimeoutException ? "timeout" : "failure", start);
+                        if (last) {
+                            return Mono.error(e);
+                        }
+                        log.warn("Summary backend {} failed ({}), falling back to {}", name, describe(e),
+                                order.get(index + 1).name());
+                        return attempt(index + 1, prompt, onChunk, streamed);
+                    });
+        }).doOnCancel(permit::release);
+    }
+
+    private void record(String backend, String outcome, long startNanos) {
+        registry.timer("digest.summary.backend", "backend", backend, "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private int concurrencyFor(String backend) {
+        return environment.getProperty("digest.summary.backends.concurrency." + backend, Integer.class,
+                defaultConcurrency);
+    }
+
+    private Duration timeoutFor(String backend) {
+        return timeouts.computeIfAbsent(backend, name -> environment.getProperty(
+                "digest.summary.backends.timeout." + name, Duration.class, defaultTimeout));
+    }
+
+    private static String describe(Throwable e) {
+        return e instanceof TimeoutException ? "timed out" : e.getMessage();
+    }
+
+    /**
+     * One permit of a backend, released exactly once whichever of completion, error or
+     * cancellation comes first. A permit granted after the caller cancelled the wait is
+     * handed straight back.
+     */
+    private static final class Permit {
+        private static final int WAITING = 0;
+        private static final int HELD = 1;
+        private static final int DONE = 2;
+
+        private final Semaphore semaphore;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        boolean tryAcquire() {
+            return hold(semaphore.tryAcquire());
+        }
+
+        boolean tryAcquire(Duration wait) {
+            try {
+                return hold(semaphore.tryAcquire(wait.toNanos(), TimeUnit.NANOSECONDS));
+            } catch (InterruptedException e) {
+                // Cancelling the wait interrupts it
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        void release() {
+            if (state.getAndSet(DONE) == HELD) {
+                semaphore.release();
+            }
+        }
+
+        private boolean hold(boolean acquired) {
+            if (acquired && !state.compareAndSet(WAITING, HELD)) {
+                semaphore.release();
+                return false;
+            }
+            return acquired;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.domain.ArticleBullet;
+import junioranyafulu.DailyDigest.domain.SummaryCacheEntry;
+import junioranyafulu.DailyDigest.dto.Article;
+import junioranyafulu.DailyDigest.repository.ArticleBulletRepository;
+import junioranyafulu.DailyDigest.repository.SummaryCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Content-addressed cache for LLM output. Whole summaries are keyed by the normalised article
+ * set (order-insensitive), single bullets by the normalised article; both keys include the
+ * preferred backend, the model and {@link SummaryPrompts#PROMPT_VERSION}, so changing any of
+ * them invalidates them. Callers only store output of the preferred backend.
+ */
+@Service
+@Slf4j
+public class SummaryCache {
+
+    private final SummaryCacheRepository summaryRepository;
+    private final ArticleBulletRepository bulletRepository;
+    private final SummaryBackendRouter backendRouter;
+    private final String model;
+    private final Duration retention;
+
+    @Autowired
+    public SummaryCache(
+            SummaryCacheRepository summaryRepository,
+            ArticleBulletRepository bulletRepository,
+            SummaryBackendRouter backendRouter,
+            @Value("${spring.ai.ollama.chat.options.model:unknown}") String model,
+            @Value("${digest.summary.cache.retention:P30D}") Duration retention) {
+        this.summaryRepository = summaryRepository;
+        this.bulletRepository = bulletRepository;
+        this.backendRouter = backendRouter;
+        this.model = model;
+        this.retention = retention;
+    }
+
+    public String summaryKey(String strategy, List<Article> articles) {
+        String articleSet = articles.stream()
+                .map(SummaryCache::normalize)
+                .sorted()
+                .collect(Collectors.joining("\n"));
+        return sha256(producer() + "|" + SummaryPrompts.PROMPT_VERSION + "|" + strategy + "\n" + articleSet);
+    }
+
+    public String articleKey(Article article) {
+        return sha256(producer() + "|" + SummaryPrompts.PROMPT_VERSION + "\n" + normalize(article));
+    }
+
+    public Optional<String> findSummary(String key) {
+        try {
+            return summaryRepository.findById(key).map(SummaryCacheEntry::getSummary);
+        } catch (Exception e) {
+            log.warn("Summary cache lookup failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void saveSummary(String key, String strategy, int articleCount, String summary) {
+        try {
+            summaryRepository.save(SummaryCacheEntry.builder()
+                    .contentHash(key)
+                    .summary(summary)
+                    .model(producer())
+                    .promptVersion(SummaryPrompts.PROMPT_VERSION)
+                    .strategy(strategy)
+                    .articleCount(articleCount)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.warn("Could not store summary in cache: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, ArticleBullet> findBullets(Collection<String> keys) {
+        try {
+            return bulletRepository.findAllById(keys).stream()
+                    .collect(Collectors.toMap(ArticleBullet::getArticleHash, Function.identity()));
+        } catch (Exception e) {
+            log.warn("Bullet cache lookup failed: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    public void saveBullets(Collection<ArticleBullet> bullets) {
+        try {
+            bulletRepository.saveAll(bullets);
+        } catch (Exception e) {
+            log.warn("Could not store article bullets in cache: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${digest.summary.cache.cleanup-interval:PT24H}",
+            initialDelayString = "${digest.summary.cache.cleanup-interval:PT24H}")
+    @Transactional
+    public void evictExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long summaries = summaryRepository.deleteByCreatedAtBefore(cutoff);
+        long bullets = bulletRepository.deleteByCreatedAtBefore(cutoff);
+        log.info("Evicted {} cached summaries and {} article bullets older than {}", summaries, bullets, retention);
+    }
+
+    /**
+     * The backend whose output is cached and the model it runs; the model alone would let a
+     * fake or fallback backend's output be served as the model's.
+     */
+    private String producer() {
+        return backendRouter.preferred() + "/" + model;
+    }
+
+    private static String normalize(Article article) {
+        return clean(article.getTitle()) + "\u001f" + clean(article.getDescription()) + "\u001f"
+                + (article.getUrl() != null ? article.getUrl().trim() : "");
+    }
+
+    private static String clean(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
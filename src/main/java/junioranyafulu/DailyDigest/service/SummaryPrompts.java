@@ -0,0 +1,115 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.domain.ContentDomain;
+import junioranyafulu.DailyDigest.dto.Article;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Prompt templates for the summary, independent of the backend that runs them.
+ */
+@Component
+public class SummaryPrompts {
+
+    /**
+     * Version of the prompt templates below. Bump it whenever a prompt changes so cached
+     * summaries and bullets written with the old prompt are no longer reused.
+     */
+    public static final String PROMPT_VERSION = "3";
+
+    public String buildPrompt(List<Article> articles) {
+        StringBuilder promptBuilder = new StringBuilder();
+
+        promptBuilder.append("You are a senior entertainment editor for a premium digital magazine.\n\n")
+                .append("Your task is to transform raw entertainment data into a\n")
+                .append("clean, high-signal Daily Entertainment Digest.\n\n")
+                .append("Content domains:\n")
+                .append("- Gaming\n")
+                .append("- Movies\n")
+                .append("- TV / Streaming\n\n")
+                .append("STRICT GUIDELINES:\n")
+                .append("1. **Relevance**: Only include news directly relevant to entertainment.\n")
+                .append("2. **Importance**: Prioritize major announcements over minor updates.\n")
+                .append("3. **Clarity**: Remove duplication and conflicting dates.\n")
+                .append("4. **Tone**: Professional, neutral, and sophisticated (Variety / IGN style).\n")
+                .append("5. **No Sources**: Do not mention data sources (e.g., 'According to...') in the text.\n")
+                .append("6. **Omission**: If a section has no strong news, omit it entirely.\n\n")
+                .append("OUTPUT STRUCTURE (STRICT):\n\n")
+                .append("## Gaming News\n")
+                .append("- **[Topic/Game Name]**: Concise summary of the development (max 2 sentences).\n")
+                .append("- **[Topic/Game Name]**: Concise summary of the development (max 2 sentences).\n\n")
+                .append("## Anticipated Game Trailers / Releases\n")
+                .append("- **[Game Name]**: Expected window (Month/Quarter) or Trailer date. One sentence on why it's hyped.\n\n")
+                .append("## Movie News\n")
+                .append("- **[Movie/Topic]**: Concise summary of casting, production, or box office news.\n\n")
+                .append("## Anticipated Movies / Trailers\n")
+                .append("- **[Movie Name]**: Expected window. Brief reason for anticipation (director, cast, buzz).\n\n")
+                .append("## TV / Streaming News\n")
+                .append("- **[Show/Platform]**: Concise summary of renewals, cancellations, or premiere dates.\n\n")
+                .append("## Anticipated Series / Trailers\n")
+                .append("- **[Series Name]**: Expected premiere/trailer. One sentence explaining audience interest.\n\n")
+                .append("## Worth Your Time Today\n")
+                .append("- **[Recommendation]**: A confident, curated pick. One sentence explaining the appeal.\n\n")
+                .append("STYLE RULES:\n")
+                .append("- **Bold** the key subject at the start of each bullet (as shown above).\n")
+                .append("- No emojis.\n")
+                .append("- No clickbait.\n")
+                .append("- No speculation beyond widely reported expectations.\n")
+                .append("- Clear, scannable formatting.\n\n")
+                .append("The output must read like a curated digital magazine brief.\n\n")
+                .append("Here are the news articles:\n\n");
+
+        for (Article article : articles) {
+            promptBuilder
+                    .append("Title: ").append(article.getTitle()).append("\n")
+                    .append("Description: ").append(article.getDescription() != null ? article.getDescription() : "N/A")
+                    .append("\n")
+                    .append("Published: ").append(article.getPublishedAt()).append("\n\n");
+        }
+
+        return promptBuilder.toString();
+    }
+
+    /**
+     * Prompt for one content domain of the map-reduce summariser. The model writes one line
+     * per numbered article ({@code <n> | NEWS|ANTICIPATED|SKIP | <bullet>}), so every bullet
+     * can be cached against the article it came from.
+     */
+    public String buildDomainPrompt(ContentDomain domain, List<Article> articles) {
+        StringBuilder promptBuilder = new StringBuilder();
+
+        promptBuilder.append("You are a senior entertainment editor preparing the ").append(domain.getLabel())
+                .append(" part of a Daily Entertainment Digest.\n\n")
+                .append("For every numbered article below, write exactly one line in this format:\n")
+                .append("<number> | NEWS | **[Subject]**: Concise summary (max 2 sentences).\n\n")
+                .append("Use ANTICIPATED instead of NEWS for upcoming releases, trailers or premieres and give ")
+                .append("the expected window. Use SKIP with no text for articles that are not relevant or repeat ")
+                .append("an earlier article.\n")
+                .append("Professional, neutral tone. Do not mention sources. No emojis. Output only these lines.\n\n")
+                .append("Articles:\n\n");
+
+        for (int i = 0; i < articles.size(); i++) {
+            Article article = articles.get(i);
+            promptBuilder
+                    .append(i + 1).append(". Title: ").append(article.getTitle()).append("\n")
+                    .append("Description: ").append(article.getDescription() != null ? article.getDescription() : "N/A")
+                    .append("\n")
+                    .append("Published: ").append(article.getPublishedAt()).append("\n\n");
+        }
+        return promptBuilder.toString();
+    }
+
+    /**
+     * Short reduce prompt: picks the day's recommendation from the already written sections.
+     */
+    public String buildMergePrompt(String sections) {
+        return "You are a senior entertainment editor. From the digest sections below, write only this "
+                + "Markdown section and nothing else:\n\n"
+                + "## Worth Your Time Today\n"
+                + "- **[Recommendation]**: A confident, curated pick. One sentence explaining the appeal.\n\n"
+                + "Pick one or two items. No emojis, no clickbait.\n\n"
+                + "Digest sections:\n\n"
+                + sections;
+    }
+}
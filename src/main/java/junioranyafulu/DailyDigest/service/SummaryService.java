@@ -0,0 +1,202 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.dto.Article;
+import junioranyafulu.DailyDigest.dto.LlmCompletion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Produces the digest summary with the configured strategy: {@code single} sends every
+ * article in one prompt (streamed when {@code onChunk} is given), {@code map-reduce}
+ * delegates to {@link MapReduceSummarizer}. Articles go through {@link PromptBudgeter} first;
+ * a summary for an article set that was already summarised with the same model and prompt is
+ * served from {@link SummaryCache}. Prompts run through {@link SummaryBackendRouter}; only
+ * summaries written by the preferred backend are cached. When inference fails the
+ * {@link ExtractiveSummarizer} summary is returned instead.
+ */
+@Service
+@Slf4j
+public class SummaryService {
+
+    static final String SINGLE = "single";
+
+    private final SummaryBackendRouter backendRouter;
+    private final SummaryPrompts summaryPrompts;
+    private final MapReduceSummarizer mapReduceSummarizer;
+    private final SummaryStats summaryStats;
+    private final SummaryCache summaryCache;
+    private final PromptBudgeter promptBudgeter;
+    private final ExtractiveSummarizer extractiveSummarizer;
+    private final String strategy;
+
+    @Autowired
+    public SummaryService(SummaryBackendRouter backendRouter, SummaryPrompts summaryPrompts,
+            MapReduceSummarizer mapReduceSummarizer, SummaryStats summaryStats, SummaryCache summaryCache,
+            PromptBudgeter promptBudgeter, ExtractiveSummarizer extractiveSummarizer,
+            @Value("${digest.summary.strategy:single}") String strategy) {
+        this.backendRouter = backendRouter;
+        this.summaryPrompts = summaryPrompts;
+        this.mapReduceSummarizer = mapReduceSummarizer;
+        this.summaryStats = summaryStats;
+        this.summaryCache = summaryCache;
+        this.promptBudgeter = promptBudgeter;
+        this.extractiveSummarizer = extractiveSummarizer;
+        this.strategy = isMapReduce(strategy) ? MapReduceSummarizer.STRATEGY : SINGLE;
+    }
+
+    /**
+     * Blocking summary; {@code onChunk} may be {@code null}.
+     */
+    public String summarize(List<Article> sourceArticles, Consumer<String> onChunk) {
+        List<Article> articles = promptBudgeter.prepare(sourceArticles);
+        String key = summaryCache.summaryKey(strategy, articles);
+        Optional<String> cached = cachedSummary(key, onChunk);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        if (isMapReduce(strategy)) {
+            try {
+                return store(key, articles, summarizeMapReduce(articles, onChunk));
+            } catch (Exception e) {
+                return fallback(articles, e);
+            }
+        }
+        if (onChunk != null) {
+            return summarizeSingleAsync(key, articles, onChunk).block();
+        }
+
+        log.info("Generating summary for {} articles ({})", articles.size(), SINGLE);
+        SummaryStats.Recorder run = summaryStats.start(SINGLE);
+        try {
+            LlmCompletion completion = run.complete("prompt",
+                    () -> backendRouter.complete(summaryPrompts.buildPrompt(articles)));
+            log.info("Successfully generated summary with {}", completion.backend());
+            return store(key, articles, completion);
+        } catch (Exception e) {
+            return fallback(articles, e);
+        } finally {
+            run.finish();
+        }
+    }
+
+    /**
+     * Extractive summary of the articles, available in milliseconds; used as the first
+     * published version while the LLM summary is generated. Returns {@code null} when no
+     * article matches a content domain.
+     */
+    public String draft(List<Article> sourceArticles) {
+        SummaryStats.Recorder run = summaryStats.start(ExtractiveSummarizer.STRATEGY);
+        try {
+            String summary = run.time("extract",
+                    () -> extractiveSummarizer.summarize(promptBudgeter.cleanAndDeduplicate(sourceArticles)));
+            return summary.isEmpty() ? null : summary;
+        } finally {
+            run.finish();
+        }
+    }
+
+    /**
+     * Non-blocking summary; {@code onChunk} may be {@code null}.
+     */
+    public Mono<String> summarizeAsync(List<Article> articles, Consumer<String> onChunk) {
+        return Mono.fromCallable(() -> {
+                    List<Article> prepared = promptBudgeter.prepare(articles);
+                    String key = summaryCache.summaryKey(strategy, prepared);
+                    return new Lookup(key, prepared, cachedSummary(key, onChunk));
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(lookup -> lookup.summary()
+                        .map(Mono::just)
+                        .orElseGet(() -> isMapReduce(strategy)
+                                ? summarizeMapReduceAsync(lookup.key(), lookup.articles(), onChunk)
+                                : summarizeSingleAsync(lookup.key(), lookup.articles(), onChunk)));
+    }
+
+    private Mono<String> summarizeSingleAsync(String key, List<Article> articles, Consumer<String> onChunk) {
+        log.info("Generating summary for {} articles ({})", articles.size(), SINGLE);
+        SummaryStats.Recorder run = summaryStats.start(SINGLE);
+        long start = System.nanoTime();
+        return Mono.fromSupplier(() -> summaryPrompts.buildPrompt(articles))
+                .flatMap(prompt -> backendRouter.complete(prompt, onChunk != null ? onChunk : chunk -> {
+                }))
+                .doOnNext(completion -> run.record("prompt", start, completion))
+                .doOnNext(completion -> log.info("Successfully generated summary with {}", completion.backend()))
+                .publishOn(Schedulers.boundedElastic())
+                .map(completion -> store(key, articles, completion))
+                .onErrorResume(e -> Mono.fromCallable(() -> fallback(articles, e)))
+                .doFinally(signal -> run.finish());
+    }
+
+    private Mono<String> summarizeMapReduceAsync(String key, List<Article> articles, Consumer<String> onChunk) {
+        log.info("Generating summary for {} articles ({})", articles.size(), MapReduceSummarizer.STRATEGY);
+        return mapReduceSummarizer.summarizeAsync(articles)
+                .doOnNext(summary -> {
+                    log.info("Successfully generated summary with {}", summary.backend());
+                    if (onChunk != null) {
+                        onChunk.accept(summary.text());
+                    }
+                })
+                .publishOn(Schedulers.boundedElastic())
+                .map(completion -> store(key, articles, completion))
+                .onErrorResume(e -> Mono.fromCallable(() -> fallback(articles, e)));
+    }
+
+    private LlmCompletion summarizeMapReduce(List<Article> articles, Consumer<String> onChunk) {
+        log.info("Generating summary for {} articles ({})", articles.size(), MapReduceSummarizer.STRATEGY);
+        LlmCompletion summary = mapReduceSummarizer.summarize(articles);
+        log.info("Successfully generated summary with {}", summary.backend());
+        if (onChunk != null) {
+            onChunk.accept(summary.text());
+        }
+        return summary;
+    }
+
+    /**
+     * Replaces a failed LLM summary with the extractive one, so the digest never ships an
+     * error message. The fallback is not cached; the next run tries the model again.
+     */
+    private String fallback(List<Article> articles, Throwable e) {
+        log.error("Error generating summary, falling back to the extractive summary", e);
+        String summary = extractiveSummarizer.summarize(articles);
+        return summary.isEmpty() ? DailyDigestService.NO_NEWS_SUMMARY : summary;
+    }
+
+    private Optional<String> cachedSummary(String key, Consumer<String> onChunk) {
+        Optional<String> cached = summaryCache.findSummary(key);
+        cached.ifPresent(summary -> {
+            log.info("Reusing cached summary for an unchanged article set ({})", strategy);
+            if (onChunk != null) {
+                onChunk.accept(summary);
+            }
+        });
+        return cached;
+    }
+
+    private String store(String key, List<Article> articles, LlmCompletion completion) {
+        if (!completion.backend().equals(backendRouter.preferred())) {
+            return completion.text();
+        }
+        return store(key, articles, completion.text());
+    }
+
+    private String store(String key, List<Article> articles, String summary) {
+        summaryCache.saveSummary(key, strategy, articles.size(), summary);
+        return summary;
+    }
+
+    private static boolean isMapReduce(String strategy) {
+        return MapReduceSummarizer.STRATEGY.equalsIgnoreCase(strategy);
+    }
+
+    private record Lookup(String key, List<Article> articles, Optional<String> summary) {
+    }
+}
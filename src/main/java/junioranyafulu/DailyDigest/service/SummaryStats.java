@@ -0,0 +1,131 @@
+package junioranyafulu.DailyDigest.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import junioranyafulu.DailyDigest.dto.LlmCompletion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Micrometer timers and token counters for summary runs, and the per-stage breakdown of the
+ * most recent run of each strategy so the single-prompt and map-reduce paths can be compared
+ * side by side. Runs are timed as {@code digest.summary} (tagged strategy), stages as
+ * {@code digest.summary.stage} (tagged strategy, stage, backend), and tokens are counted as
+ * {@code digest.summary.tokens} (tagged strategy and kind, prompt or generation).
+ */
+@Service
+@Slf4j
+public class SummaryStats {
+
+    private final MeterRegistry registry;
+    private final Map<String, Run> lastRuns = new ConcurrentHashMap<>();
+    private volatile PromptReport lastPrompt;
+
+    @Autowired
+    public SummaryStats(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public Recorder start(String strategy) {
+        return new Recorder(strategy);
+    }
+
+    public Map<String, Run> lastRuns() {
+        return new TreeMap<>(lastRuns);
+    }
+
+    public void recordPrompt(PromptReport report) {
+        lastPrompt = report;
+    }
+
+    public PromptReport lastPrompt() {
+        return lastPrompt;
+    }
+
+    public final class Recorder {
+        private final String strategy;
+        private final long startedAt = System.nanoTime();
+        private final List<Stage> stages = new ArrayList<>();
+
+        private Recorder(String strategy) {
+            this.strategy = strategy;
+        }
+
+        public <T> T time(String stage, Supplier<T> task) {
+            long start = System.nanoTime();
+            try {
+                return task.get();
+            } finally {
+                record(new Stage(stage, null, (System.nanoTime() - start) / 1_000_000, 0, 0));
+            }
+        }
+
+        public LlmCompletion complete(String stage, Supplier<LlmCompletion> call) {
+            long start = System.nanoTime();
+            LlmCompletion completion = call.get();
+            record(stage, start, completion);
+            return completion;
+        }
+
+        public void record(String stage, long startNanos, LlmCompletion completion) {
+            record(new Stage(stage, completion.backend(), (System.nanoTime() - startNanos) / 1_000_000,
+                    completion.promptTokens(), completion.generationTokens()));
+        }
+
+        public void finish() {
+            List<Stage> snapshot;
+            synchronized (stages) {
+                snapshot = List.copyOf(stages);
+            }
+            Run run = new Run(strategy, LocalDateTime.now(), (System.nanoTime() - startedAt) / 1_000_000,
+                    snapshot.stream().mapToLong(Stage::promptTokens).sum(),
+                    snapshot.stream().mapToLong(Stage::generationTokens).sum(),
+                    snapshot);
+            lastRuns.put(strategy, run);
+            registry.timer("digest.summary", "strategy", strategy).record(run.totalMillis(), TimeUnit.MILLISECONDS);
+            log.info("Summary ({}) took {} ms, {} prompt / {} generated tokens", strategy, run.totalMillis(),
+                    run.promptTokens(), run.generationTokens());
+        }
+
+        private void record(Stage stage) {
+            synchronized (stages) {
+                stages.add(stage);
+            }
+            registry.timer("digest.summary.stage", "strategy", strategy, "stage", stage.name(),
+                    "backend", stage.backend() != null ? stage.backend() : "none")
+                    .record(stage.millis(), TimeUnit.MILLISECONDS);
+            registry.counter("digest.summary.tokens", "strategy", strategy, "kind", "prompt")
+                    .increment(stage.promptTokens());
+            registry.counter("digest.summary.tokens", "strategy", strategy, "kind", "generation")
+                    .increment(stage.generationTokens());
+            log.debug("Summary stage {} took {} ms", stage.name(), stage.millis());
+        }
+    }
+
+    /**
+     * One timed step of a run; {@code backend} is the backend that answered, or {@code null}
+     * for steps without inference.
+     */
+    public record Stage(String name, String backend, long millis, long promptTokens, long generationTokens) {
+    }
+
+    /**
+     * Outcome of prompt budgeting for the last summary run; token counts are estimates.
+     */
+    public record PromptReport(int articlesIn, int duplicatesRemoved, int droppedForBudget, int articlesOut,
+            int estimatedTokensBefore, int estimatedTokensAfter, int tokensSaved) {
+    }
+
+    public record Run(String strategy, LocalDateTime finishedAt, long totalMillis, long promptTokens,
+            long generationTokens, List<Stage> stages) {
+    }
+}
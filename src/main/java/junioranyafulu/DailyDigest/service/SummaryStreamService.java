@@ -0,0 +1,114 @@
+package junioranyafulu.DailyDigest.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Fan-out of the summary while the model is still writing it. A generation opens a
+ * {@link Live} stream and appends Markdown chunks to it; readers of the SSE endpoint get
+ * everything written so far replayed, then the rest as it arrives: {@code markdown} events
+ * carry the raw chunks, {@code html} events the summary rendered so far, and a final
+ * {@code done} event the complete rendered summary as it was stored.
+ */
+@Service
+@Slf4j
+public class SummaryStreamService {
+
+    private final HtmlRenderingService htmlRenderingService;
+    private final Duration htmlInterval;
+    private final AtomicReference<Live> current = new AtomicReference<>();
+
+    @Autowired
+    public SummaryStreamService(HtmlRenderingService htmlRenderingService,
+            @Value("${digest.summary.stream-html-interval:PT0.25S}") Duration htmlInterval) {
+        this.htmlRenderingService = htmlRenderingService;
+        this.htmlInterval = htmlInterval;
+    }
+
+    public Live begin() {
+        Live live = new Live(Sinks.many().replay().all());
+        current.set(live);
+        log.debug("Summary stream opened");
+        return live;
+    }
+
+    /**
+     * Detaches a finished stream once its summary has been persisted, so new readers get the
+     * stored text. A stream that has since been replaced is left alone.
+     */
+    public void end(Live live) {
+        live.finish();
+        current.compareAndSet(live, null);
+    }
+
+    /**
+     * Events for the summary being generated, or for {@code storedSummary} when no
+     * generation is streaming.
+     */
+    public Flux<ServerSentEvent<String>> events(Supplier<String> storedSummary) {
+        Live live = current.get();
+        if (live == null) {
+            return Flux.defer(() -> {
+                String summary = storedSummary.get();
+                String markdown = summary != null ? summary : "";
+                return Flux.just(event("markdown", markdown),
+                        event("done", htmlRenderingService.renderMarkdown(markdown)));
+            });
+        }
+
+        Flux<String> chunks = live.sink.asFlux();
+        Flux<String> text = chunks.scanWith(StringBuilder::new, StringBuilder::append)
+                .skip(1)
+                .map(StringBuilder::toString);
+
+        return Flux.merge(
+                        chunks.map(chunk -> event("markdown", chunk)),
+                        text.sample(htmlInterval)
+                                .map(partial -> event("html", htmlRenderingService.renderMarkdown(partial))))
+                // The stored summary differs from the chunks when a fallback replaced a failed stream
+                .concatWith(live.stored.asMono()
+                        .switchIfEmpty(text.last(""))
+                        .map(full -> event("done", htmlRenderingService.renderMarkdown(full))));
+    }
+
+    private static ServerSentEvent<String> event(String name, String data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+
+    public static final class Live {
+        private final Sinks.Many<String> sink;
+        private final Sinks.One<String> stored = Sinks.one();
+
+        private Live(Sinks.Many<String> sink) {
+            this.sink = sink;
+        }
+
+        public void append(String chunk) {
+            sink.tryEmitNext(chunk);
+        }
+
+        /**
+         * Records the summary that was persisted, for the {@code done} event. Without it the
+         * event carries the streamed text.
+         */
+        public void stored(String summary) {
+            if (summary != null) {
+                stored.tryEmitValue(summary);
+            }
+        }
+
+        public void finish() {
+            stored.tryEmitEmpty();
+            sink.tryEmitComplete();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package junioranyafulu.DailyDigest.service;
+
+/**
+ * Selects the indices of the {@code k} highest scores with a bounded min-heap: O(n log k)
+ * comparisons over a primitive array, no boxing and no full sort. Ties go to the lower index,
+ * so the result matches a stable descending sort of the same scores.
+ */
+final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * Returns the indices of the top {@code k} scores, best first.
+     */
+    static int[] select(double[] scores, int k) {
+        int size = Math.min(Math.max(k, 0), scores.length);
+        int[] heap = new int[size];
+        if (size == 0) {
+            return heap;
+        }
+
+        // heap[0] is the worst of the current top k
+        for (int i = 0; i < size; i++) {
+            heap[i] = i;
+            siftUp(heap, i, scores);
+        }
+        for (int i = size; i < scores.length; i++) {
+            if (better(i, heap[0], scores)) {
+                heap[0] = i;
+                siftDown(heap, 0, size, scores);
+            }
+        }
+
+        // Heap sort in place: repeatedly move the worst to the end
+        for (int end = size - 1; end > 0; end--) {
+            int worst = heap[0];
+            heap[0] = heap[end];
+            heap[end] = worst;
+            siftDown(heap, 0, end, scores);
+        }
+        return heap;
+    }
+
+    private static boolean better(int a, int b, double[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    private static void siftUp(int[] heap, int position, double[] scores) {
+        int item = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!better(heap[parent], item, scores)) {
+                break;
+            }
+            heap[position] = heap[parent];
+            position = parent;
+        }
+        heap[position] = item;
+    }
+
+    private static void siftDown(int[] heap, int position, int size, double[] scores) {
+        int item = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            int right = child + 1;
+            if (right < size && better(heap[child], heap[right], scores)) {
+                child = right;
+            }
+            if (!better(item, heap[child], scores)) {
+                break;
+            }
+            heap[position] = heap[child];
+            position = child;
+        }
+        heap[position] = item;
+    }
+}
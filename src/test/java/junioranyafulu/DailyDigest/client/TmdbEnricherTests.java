@@ -0,0 +1,118 @@
+package junioranyafulu.DailyDigest.client;
+
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbDetailsResponse;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TmdbEnricherTests {
+
+    // A stopped clock: tokens never refill, so only the burst decides what is delayed
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void concurrentRequestsForATitleShareOneCall() {
+        TmdbEnricher enricher = new TmdbEnricher(new TokenBucket(10, 1, clock::get), Duration.ofHours(1), 100);
+        Sinks.One<TmdbDetailsResponse> upstream = Sinks.one();
+        TmdbDetailsResponse details = new TmdbDetailsResponse();
+
+        AtomicReference<TmdbDetailsResponse> first = new AtomicReference<>();
+        AtomicReference<TmdbDetailsResponse> second = new AtomicReference<>();
+        enricher.details("movie", 550L, loader(upstream.asMono())).subscribe(first::set);
+        enricher.details("movie", 550L, loader(upstream.asMono())).subscribe(second::set);
+        assertEquals(1, loads.get());
+
+        upstream.tryEmitValue(details);
+
+        assertSame(details, first.get());
+        assertSame(details, second.get());
+    }
+
+    @Test
+    void loadedDetailsAreServedFromCache() {
+        TmdbEnricher enricher = new TmdbEnricher(new TokenBucket(10, 1, clock::get), Duration.ofHours(1), 100);
+        TmdbDetailsResponse details = new TmdbDetailsResponse();
+
+        assertSame(details, enricher.details("tv", 1399L, loader(Mono.just(details))).block());
+        assertSame(details, enricher.details("tv", 1399L, loader(Mono.just(new TmdbDetailsResponse()))).block());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void mediaTypesAreNotCoalesced() {
+        TmdbEnricher enricher = new TmdbEnricher(new TokenBucket(10, 1, clock::get), Duration.ofHours(1), 100);
+
+        enricher.details("movie", 1L, loader(Mono.just(new TmdbDetailsResponse()))).block();
+        enricher.details("tv", 1L, loader(Mono.just(new TmdbDetailsResponse()))).block();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failedCallsAreRetriedByTheNextRequest() {
+        TmdbEnricher enricher = new TmdbEnricher(new TokenBucket(10, 1, clock::get), Duration.ofHours(1), 100);
+        TmdbDetailsResponse details = new TmdbDetailsResponse();
+
+        assertThrows(IllegalStateException.class, () -> enricher.details("movie", 550L,
+                loader(Mono.error(new IllegalStateException("429")))).block());
+        assertSame(details, enricher.details("movie", 550L, loader(Mono.just(details))).block());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void callsBeyondTheBurstWaitForAToken() {
+        TmdbEnricher enricher = new TmdbEnricher(new TokenBucket(1, 1, clock::get), Duration.ofHours(1), 100);
+
+        enricher.details("movie", 1L, loader(Mono.just(new TmdbDetailsResponse()))).block();
+        Disposable delayed = enricher.details("movie", 2L, loader(Mono.just(new TmdbDetailsResponse())))
+                .subscribe();
+        try {
+            assertEquals(1, loads.get());
+        } finally {
+            delayed.dispose();
+        }
+    }
+
+    @Test
+    void unsubscribedRequestsTakeNoToken() {
+        TmdbEnricher enricher = new TmdbEnricher(new TokenBucket(1, 1, clock::get), Duration.ofHours(1), 100);
+        TmdbDetailsResponse details = new TmdbDetailsResponse();
+
+        enricher.details("movie", 1L, loader(Mono.just(new TmdbDetailsResponse())));
+
+        // The only token is still there, so the next call runs without waiting
+        assertSame(details, enricher.details("movie", 2L, loader(Mono.just(details))).block(Duration.ofMillis(200)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void requestsServedFromCacheTakeNoToken() {
+        TmdbEnricher enricher = new TmdbEnricher(new TokenBucket(1, 1, clock::get), Duration.ofHours(1), 100);
+        TmdbDetailsResponse details = new TmdbDetailsResponse();
+        enricher.details("tv", 1399L, loader(Mono.just(details))).block();
+
+        Mono<TmdbDetailsResponse> cached = enricher.details("tv", 1399L, loader(Mono.just(details)));
+
+        assertSame(details, cached.block(Duration.ofMillis(200)));
+        assertEquals(1, loads.get());
+    }
+
+    private Supplier<Mono<TmdbDetailsResponse>> loader(Mono<TmdbDetailsResponse> response) {
+        return () -> {
+            loads.incrementAndGet();
+            return response;
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package junioranyafulu.DailyDigest.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TokenBucketTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(42 * SECOND);
+
+    @Test
+    void burstUpToCapacityIsImmediate() {
+        TokenBucket bucket = new TokenBucket(3, 1, clock::get);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertNull(bucket.acquire().block());
+    }
+
+    @Test
+    void callersBeyondTheBurstQueueAtTheRate() {
+        TokenBucket bucket = new TokenBucket(2, 4, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        // Each caller waits out the debt of the callers before it
+        assertEquals(SECOND / 4, bucket.reserve());
+        assertEquals(SECOND / 2, bucket.reserve());
+        assertEquals(3 * SECOND / 4, bucket.reserve());
+    }
+
+    @Test
+    void tokensRefillWithElapsedTime() {
+        TokenBucket bucket = new TokenBucket(2, 1, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        clock.addAndGet(3 * SECOND / 2);
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(SECOND / 2, bucket.reserve());
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 1, clock::get);
+        bucket.reserve();
+        bucket.reserve();
+
+        clock.addAndGet(TimeUnit.HOURS.toNanos(1));
+
+        assertEquals(0, bucket.reserve());
+        assertEquals(0, bucket.reserve());
+        assertEquals(SECOND, bucket.reserve());
+    }
+
+    @Test
+    void debtIsRepaidBeforeNewTokensAccrue() {
+        TokenBucket bucket = new TokenBucket(1, 1, clock::get);
+        bucket.reserve();
+        assertEquals(SECOND, bucket.reserve());
+
+        clock.addAndGet(SECOND);
+
+        // The second second of refill went to the caller that was already waiting
+        assertEquals(SECOND, bucket.reserve());
+    }
+
+    @Test
+    void rejectsNonPositiveSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0));
+    }
+}
@@ -0,0 +1,187 @@
+package junioranyafulu.DailyDigest.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGame;
+import junioranyafulu.DailyDigest.dto.rawg.RawgGamesResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovie;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbMovieResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVResponse;
+import junioranyafulu.DailyDigest.dto.tmdb.TmdbTVShow;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The streaming decoder must produce what {@code ObjectMapper} binding produced before it,
+ * for every field the digest reads. Fields the decoder skips on purpose are dropped from the
+ * bound objects before comparing.
+ */
+class UpstreamJsonDecoderTests {
+
+    // Spring Boot's ObjectMapper ignores unknown properties; mirror that here
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final UpstreamJsonDecoder decoder = new UpstreamJsonDecoder(objectMapper);
+
+    @Test
+    void rawgGamesMatchBinding() throws Exception {
+        byte[] json = json("""
+                {"count": 2, "next": "https://api.rawg.io/api/games?page=2", "previous": null,
+                 "filters": {"years": [{"from": 2020, "to": 2025, "decades": [{"results": [1]}]}]},
+                 "results": [
+                   {"id": 3498, "name": "Echo", "slug": "echo", "released": "2025-05-30", "tba": false,
+                    "background_image": null, "rating": 4.5, "rating_top": 5, "ratings_count": 120,
+                    "metacritic": null, "updated": "2025-06-01T10:00:00",
+                    "esrb_rating": {"id": 4, "name": "Mature", "slug": "mature"},
+                    "platforms": [{"platform": {"id": 4, "name": "PC", "slug": "pc"},
+                                   "requirements": {"minimum": "8 GB RAM"}}],
+                    "genres": [{"id": 4, "name": "Action", "slug": "action", "games": [{"id": 9}]}],
+                    "tags": [{"id": 31, "name": "Singleplayer", "slug": "singleplayer", "language": "eng"}],
+                    "short_screenshots": [{"id": -1, "image": "https://media.rawg.io/1.jpg"}]},
+                   {"id": 28, "name": "Ember", "slug": null, "released": null, "rating": 0, "genres": null}
+                 ]}
+                """);
+
+        RawgGamesResponse bound = objectMapper.readValue(json, RawgGamesResponse.class);
+        RawgGamesResponse decoded = decoder.decodeRawgGames(json);
+
+        assertEquals(bound.getCount(), decoded.getCount());
+        assertEquals(bound.getNext(), decoded.getNext());
+        assertEquals(bound.getPrevious(), decoded.getPrevious());
+        assertEquals(bound.getResults().stream().map(UpstreamJsonDecoderTests::decodedFields).toList(),
+                decoded.getResults());
+    }
+
+    @Test
+    void tmdbMoviesMatchBinding() throws Exception {
+        byte[] json = json("""
+                {"page": 1, "total_pages": 500, "total_results": 10000,
+                 "results": [
+                   {"id": 550, "title": "Signal", "original_title": "Signal", "overview": null,
+                    "poster_path": "/a.jpg", "backdrop_path": null, "release_date": "2025-06-01",
+                    "vote_average": 7.8, "vote_count": 1530, "popularity": 88.1, "genre_ids": [28, 12],
+                    "adult": false, "video": false,
+                    "belongs_to_collection": {"id": 1, "name": "Signal Collection", "parts": [{"id": 2}]}},
+                   {"id": 551, "title": "Frontier", "vote_average": null, "vote_count": null, "popularity": 3}
+                 ]}
+                """);
+
+        TmdbMovieResponse bound = objectMapper.readValue(json, TmdbMovieResponse.class);
+        TmdbMovieResponse decoded = decoder.decodeTmdbMovies(json);
+
+        assertEquals(bound.getPage(), decoded.getPage());
+        assertEquals(bound.getTotalPages(), decoded.getTotalPages());
+        assertEquals(bound.getTotalResults(), decoded.getTotalResults());
+        assertEquals(bound.getResults().stream().map(UpstreamJsonDecoderTests::decodedFields).toList(),
+                decoded.getResults());
+    }
+
+    @Test
+    void tmdbTVMatchesBinding() throws Exception {
+        byte[] json = json("""
+                {"page": 1, "total_pages": 20, "total_results": 400,
+                 "results": [
+                   {"id": 1399, "name": "Crown", "original_name": "Crown", "overview": "Kings.",
+                    "poster_path": null, "first_air_date": "2011-04-17", "vote_average": 8.4,
+                    "vote_count": 21000, "popularity": 301.5, "origin_country": ["US"],
+                    "created_by": [{"id": 9, "name": "Someone", "credit": {"department": "Writing"}}]},
+                   {"id": 1400, "name": "Night", "first_air_date": null, "popularity": null}
+                 ]}
+                """);
+
+        TmdbTVResponse bound = objectMapper.readValue(json, TmdbTVResponse.class);
+        TmdbTVResponse decoded = decoder.decodeTmdbTV(json);
+
+        assertEquals(bound.getPage(), decoded.getPage());
+        assertEquals(bound.getTotalPages(), decoded.getTotalPages());
+        assertEquals(bound.getTotalResults(), decoded.getTotalResults());
+        assertEquals(bound.getResults().stream().map(UpstreamJsonDecoderTests::decodedFields).toList(),
+                decoded.getResults());
+    }
+
+    @Test
+    void nullResultsMatchBinding() throws Exception {
+        byte[] rawg = json("{\"count\": 0, \"results\": null}");
+        byte[] tmdb = json("{\"page\": 1, \"results\": null}");
+
+        assertNull(objectMapper.readValue(rawg, RawgGamesResponse.class).getResults());
+        assertNull(decoder.decodeRawgGames(rawg).getResults());
+        assertNull(objectMapper.readValue(tmdb, TmdbMovieResponse.class).getResults());
+        assertNull(decoder.decodeTmdbMovies(tmdb).getResults());
+    }
+
+    /**
+     * Binding rejects the whole payload when {@code results} is not an array; the decoder
+     * keeps the rest of the response and leaves {@code results} null, which the clients
+     * already treat as an empty list.
+     */
+    @Test
+    void nonArrayResultsAreSkipped() {
+        byte[] rawg = json("{\"count\": 3, \"results\": {\"id\": 1, \"genres\": [{\"id\": 2}]}, \"next\": \"n\"}");
+        byte[] tmdb = json("{\"page\": 2, \"results\": \"unavailable\", \"total_pages\": 7}");
+
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(rawg, RawgGamesResponse.class));
+        RawgGamesResponse games = decoder.decodeRawgGames(rawg);
+        assertNull(games.getResults());
+        assertEquals(3, games.getCount());
+        assertEquals("n", games.getNext());
+
+        assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(tmdb, TmdbTVResponse.class));
+        TmdbTVResponse shows = decoder.decodeTmdbTV(tmdb);
+        assertNull(shows.getResults());
+        assertEquals(2, shows.getPage());
+        assertEquals(7, shows.getTotalPages());
+    }
+
+    private static RawgGame decodedFields(RawgGame game) {
+        RawgGame kept = new RawgGame();
+        kept.setId(game.getId());
+        kept.setName(game.getName());
+        kept.setSlug(game.getSlug());
+        kept.setReleased(game.getReleased());
+        kept.setBackgroundImage(game.getBackgroundImage());
+        kept.setRating(game.getRating());
+        kept.setRatingTop(game.getRatingTop());
+        kept.setRatingsCount(game.getRatingsCount());
+        kept.setMetacritic(game.getMetacritic());
+        kept.setUpdated(game.getUpdated());
+        kept.setGenres(game.getGenres());
+        return kept;
+    }
+
+    private static TmdbMovie decodedFields(TmdbMovie movie) {
+        TmdbMovie kept = new TmdbMovie();
+        kept.setId(movie.getId());
+        kept.setTitle(movie.getTitle());
+        kept.setOverview(movie.getOverview());
+        kept.setPosterPath(movie.getPosterPath());
+        kept.setReleaseDate(movie.getReleaseDate());
+        kept.setVoteAverage(movie.getVoteAverage());
+        kept.setVoteCount(movie.getVoteCount());
+        kept.setPopularity(movie.getPopularity());
+        return kept;
+    }
+
+    private static TmdbTVShow decodedFields(TmdbTVShow show) {
+        TmdbTVShow kept = new TmdbTVShow();
+        kept.setId(show.getId());
+        kept.setName(show.getName());
+        kept.setOverview(show.getOverview());
+        kept.setPosterPath(show.getPosterPath());
+        kept.setFirstAirDate(show.getFirstAirDate());
+        kept.setVoteAverage(show.getVoteAverage());
+        kept.setVoteCount(show.getVoteCount());
+        kept.setPopularity(show.getPopularity());
+        return kept;
+    }
+
+    private static byte[] json(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,62 @@
+package junioranyafulu.DailyDigest.service;
+
+import junioranyafulu.DailyDigest.dto.Article;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ExtractiveSummarizerTests {
+
+    private final ExtractiveSummarizer summarizer = new ExtractiveSummarizer(new ArticleClassifier(), 4);
+
+    @Test
+    void emptyInputGivesAnEmptySummary() {
+        assertEquals("", summarizer.summarize(List.of()));
+    }
+
+    @Test
+    void singleArticleIsItsSectionAndThePick() {
+        String summary = summarizer.summarize(List.of(
+                article("Studio greenlights space opera sequel",
+                        "The director returns for the sequel. Filming starts in the spring.")));
+
+        assertEquals("""
+                ## Movie News
+                - **Studio greenlights space opera sequel**: The director returns for the sequel.
+
+                ## Worth Your Time Today
+                - **Studio greenlights space opera sequel**: The director returns for the sequel.
+                """, summary);
+    }
+
+    @Test
+    void singleAnticipatedArticleGoesUnderTheAnticipatedHeading() {
+        String summary = summarizer.summarize(List.of(
+                article("First trailer for the new Zelda game", null)));
+
+        assertEquals("""
+                ## Anticipated Game Trailers / Releases
+                - **First trailer for the new Zelda game**
+
+                ## Worth Your Time Today
+                - **First trailer for the new Zelda game**
+                """, summary);
+    }
+
+    @Test
+    void singleUnclassifiedArticleGivesAnEmptySummary() {
+        assertEquals("", summarizer.summarize(List.of(
+                article("Local bakery wins regional award", "The bakery was praised for its bread."))));
+    }
+
+    private static Article article(String title, String description) {
+        return Article.builder()
+                .title(title)
+                .description(description)
+                .url("https://a/" + title.hashCode())
+                .publishedAt("2025-06-01T08:00:00Z")
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package junioranyafulu.DailyDigest.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import junioranyafulu.DailyDigest.dto.Article;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PromptBudgeterTests {
+
+    private final SummaryPrompts summaryPrompts = new SummaryPrompts();
+    private final SummaryStats summaryStats = new SummaryStats(new SimpleMeterRegistry());
+
+    @Test
+    void dropsRepeatedUrls() {
+        PromptBudgeter budgeter = budgeter(100_000);
+
+        List<Article> prepared = budgeter.prepare(List.of(
+                article("Studio greenlights space opera sequel", "A sequel is in development.", "https://a/1"),
+                article("Handheld console sales beat forecasts", "Sales rose sharply.", "https://a/1")));
+
+        assertEquals(1, prepared.size());
+        assertEquals(1, summaryStats.lastPrompt().duplicatesRemoved());
+    }
+
+    @Test
+    void mergesNearDuplicateStoriesKeepingTheLongestDescription() {
+        PromptBudgeter budgeter = budgeter(100_000);
+
+        List<Article> prepared = budgeter.prepare(List.of(
+                article("Studio greenlights space opera sequel - Variety", "The sequel is official.", "https://a/1"),
+                article("Studio greenlights space opera sequel - Deadline",
+                        "The sequel is official, with the director returning.", "https://b/1"),
+                article("Handheld console sales beat forecasts", "Sales rose sharply.", "https://c/1")));
+
+        assertEquals(2, prepared.size());
+        assertEquals("Studio greenlights space opera sequel", prepared.get(0).getTitle());
+        assertEquals("The sequel is official, with the director returning.", prepared.get(0).getDescription());
+        assertEquals("Handheld console sales beat forecasts", prepared.get(1).getTitle());
+    }
+
+    @Test
+    void stripsBoilerplateFromArticles() {
+        PromptBudgeter budgeter = budgeter(100_000);
+
+        Article prepared = budgeter.prepare(List.of(article("Trailer drops for the heist thriller - IGN",
+                "<p>The first trailer is out</p> https://t.co/x … [+2345 chars]", "https://a/1"))).get(0);
+
+        assertEquals("Trailer drops for the heist thriller", prepared.getTitle());
+        assertEquals("The first trailer is out", prepared.getDescription());
+        assertEquals("2025-06-01", prepared.getPublishedAt());
+    }
+
+    @Test
+    void truncatesToTheTokenBudgetKeepingOriginalOrder() {
+        int instructionTokens = PromptBudgeter.estimateTokens(summaryPrompts.buildPrompt(List.of()));
+        PromptBudgeter budgeter = budgeter(instructionTokens + 200);
+        List<Article> articles = List.of(
+                article("Studio greenlights space opera sequel", "Filming starts next spring in Morocco.",
+                        "https://a/1"),
+                article("Handheld console sales beat forecasts", "Retailers report shortages across Europe.",
+                        "https://a/2"),
+                article("Prestige drama renewed for final season", "The showrunner promises a definitive ending.",
+                        "https://a/3"),
+                article("Indie roguelike tops streaming charts", "Viewers flocked to its punishing boss fights.",
+                        "https://a/4"),
+                article("Animated musical breaks opening record", "Families drove a surprising weekend turnout.",
+                        "https://a/5"),
+                article("Cooking competition moves to new network", "Hosts and judges remain unchanged.",
+                        "https://a/6"),
+                article("Veteran director announces retirement plans", "One last western is still in production.",
+                        "https://a/7"),
+                article("Racing simulator adds rain physics update", "Tyre wear now depends on track temperature.",
+                        "https://a/8"));
+        List<Article> prepared = budgeter.prepare(articles);
+
+        assertTrue(prepared.size() < articles.size(), "expected articles to be dropped for budget");
+        assertTrue(PromptBudgeter.estimateTokens(summaryPrompts.buildPrompt(prepared)) <= instructionTokens + 200);
+        List<String> titles = prepared.stream().map(Article::getTitle).toList();
+        List<String> inOrder = articles.stream().map(Article::getTitle).filter(titles::contains).toList();
+        assertEquals(inOrder, titles);
+        assertEquals(articles.size() - prepared.size(), summaryStats.lastPrompt().droppedForBudget());
+    }
+
+    @Test
+    void keepsOneArticleWhenTheBudgetHasNoRoom() {
+        PromptBudgeter budgeter = budgeter(1);
+
+        List<Article> prepared = budgeter.prepare(List.of(
+                article("Studio greenlights space opera sequel", "A sequel is in development.", "https://a/1"),
+                article("Handheld console sales beat forecasts", "Sales rose sharply.", "https://b/1")));
+
+        assertEquals(1, prepared.size());
+        assertEquals("Studio greenlights space opera sequel", prepared.get(0).getTitle());
+    }
+
+    private PromptBudgeter budgeter(int maxTokens) {
+        return new PromptBudgeter(summaryPrompts, new ArticleClassifier(), summaryStats, maxTokens, 0.5, 300);
+    }
+
+    private static Article article(String title, String description, String url) {
+        return Article.builder()
+                .title(title)
+                .description(description)
+                .url(url)
+                .publishedAt("2025-06-01T08:00:00Z")
+                .build();
+    }
+}
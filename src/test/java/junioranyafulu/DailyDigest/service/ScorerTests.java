@@ -0,0 +1,104 @@
+package junioranyafulu.DailyDigest.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScorerTests {
+
+    private static final double TODAY = ScoringColumns.epochDay("2025-06-01");
+
+    @Test
+    void titleWithoutVotesScoresThePriorMean() {
+        Scorer scorer = new Scorer(signal(1, 0, 0, 0));
+        ScoringColumns columns = new ScoringColumns(2);
+        columns.set(0, null, null, null, 0, null);
+        columns.set(1, 9.5, null, null, 0, null);
+
+        double[] scores = score(scorer, columns);
+
+        assertEquals(6.5 / 10, scores[0], 1e-9);
+        // A rating without a vote count carries no evidence
+        assertEquals(6.5 / 10, scores[1], 1e-9);
+    }
+
+    @Test
+    void fewVotesArePulledTowardsThePriorMean() {
+        Scorer scorer = new Scorer(signal(1, 0, 0, 0));
+        ScoringColumns columns = new ScoringColumns(3);
+        columns.set(0, 10.0, 5, null, 0, null);
+        columns.set(1, 10.0, 200, null, 0, null);
+        columns.set(2, 8.0, 100_000, null, 0, null);
+
+        double[] scores = score(scorer, columns);
+
+        assertEquals((5 * 10.0 + 200 * 6.5) / 205 / 10, scores[0], 1e-9);
+        assertEquals((10.0 + 6.5) / 2 / 10, scores[1], 1e-9);
+        assertEquals(0.8, scores[2], 1e-3);
+        // A perfect rating from five votes ranks below a well-established 8
+        assertTrue(scores[0] < scores[2]);
+    }
+
+    @Test
+    void criticSignalFallsBackToQualityWithoutACriticScore() {
+        Scorer scorer = new Scorer(signal(0, 1, 0, 0));
+        ScoringColumns columns = new ScoringColumns(2);
+        columns.set(0, 7.0, 1000, 90, 0, null);
+        columns.set(1, 7.0, 1000, null, 0, null);
+
+        double[] scores = score(scorer, columns);
+
+        assertEquals(0.9, scores[0], 1e-9);
+        assertEquals((1000 * 7.0 + 200 * 6.5) / 1200 / 10, scores[1], 1e-9);
+    }
+
+    @Test
+    void recencyHalvesEveryHalfLife() {
+        Scorer scorer = new Scorer(signal(0, 0, 0, 1));
+        ScoringColumns columns = new ScoringColumns(5);
+        columns.set(0, null, null, null, 0, "2025-06-01");
+        columns.set(1, null, null, null, 0, "2025-05-02");
+        columns.set(2, null, null, null, 0, "2025-07-01");
+        columns.set(3, null, null, null, 0, "2025-04-02");
+        columns.set(4, null, null, null, 0, null);
+
+        double[] scores = score(scorer, columns);
+
+        assertEquals(1.0, scores[0], 1e-9);
+        assertEquals(0.5, scores[1], 1e-9);
+        // Upcoming releases decay the same way
+        assertEquals(0.5, scores[2], 1e-9);
+        assertEquals(0.25, scores[3], 1e-9);
+        assertEquals(0.0, scores[4]);
+    }
+
+    @Test
+    void popularityIsLogScaledAndCapped() {
+        Scorer scorer = new Scorer(signal(0, 0, 1, 0));
+        ScoringColumns columns = new ScoringColumns(3);
+        columns.set(0, null, null, null, 0, null);
+        columns.set(1, null, null, null, 1000, null);
+        columns.set(2, null, null, null, 50_000, null);
+
+        double[] scores = score(scorer, columns);
+
+        assertEquals(0.0, scores[0]);
+        assertEquals(1.0, scores[1], 1e-9);
+        assertEquals(1.0, scores[2]);
+    }
+
+    /**
+     * Weights that turn on one signal each: prior 6.5 from 200 votes on a 0-10 scale, critic
+     * scores out of 100, popularity scale 1000 and a 30-day half-life.
+     */
+    private static ScoringWeights signal(double quality, double critic, double popularity, double recency) {
+        return new ScoringWeights(quality, 6.5, 200, 10, critic, 100, popularity, 1000, recency, 30);
+    }
+
+    private static double[] score(Scorer scorer, ScoringColumns columns) {
+        double[] scores = new double[columns.size];
+        scorer.score(columns, TODAY, scores);
+        return scores;
+    }
+}
@@ -0,0 +1,42 @@
+package junioranyafulu.DailyDigest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoringColumnsTests {
+
+    @Test
+    void epochDayMatchesLocalDate() {
+        for (String date : new String[]{"1970-01-01", "1969-12-31", "2025-06-01", "2025-12-31", "1899-07-14"}) {
+            assertEquals(LocalDate.parse(date).toEpochDay(), ScoringColumns.epochDay(date), date);
+        }
+    }
+
+    @Test
+    void epochDayHandlesLeapYears() {
+        // 2024 is a leap year, 2000 is one as a multiple of 400, 1900 and 2100 are not
+        for (String date : new String[]{"2024-02-28", "2024-02-29", "2024-03-01", "2023-03-01", "2000-02-29",
+                "2000-03-01", "1900-02-28", "1900-03-01", "2100-03-01"}) {
+            assertEquals(LocalDate.parse(date).toEpochDay(), ScoringColumns.epochDay(date), date);
+        }
+        assertEquals(1, ScoringColumns.epochDay("2024-03-01") - ScoringColumns.epochDay("2024-02-29"));
+        assertEquals(1, ScoringColumns.epochDay("1900-03-01") - ScoringColumns.epochDay("1900-02-28"));
+    }
+
+    @Test
+    void epochDayIgnoresATimeSuffix() {
+        assertEquals(LocalDate.parse("2025-06-01").toEpochDay(), ScoringColumns.epochDay("2025-06-01T08:00:00Z"));
+    }
+
+    @Test
+    void epochDayIsNaNForMissingOrMalformedDates() {
+        for (String date : new String[]{null, "", "2024", "2024-2-01", "2024/02/01", "2024-13-01", "2024-00-10",
+                "2024-01-00", "2024-01-32", "20x4-01-01", "2024-0a-01", "-024-01-01"}) {
+            assertTrue(Double.isNaN(ScoringColumns.epochDay(date)), String.valueOf(date));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package junioranyafulu.DailyDigest.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoringModelsTests {
+
+    private final MockEnvironment environment = new MockEnvironment()
+            .withProperty("digest.ranking.model.quality.movies.quality", "0.9")
+            .withProperty("digest.ranking.model.quality.movies.prior-votes", "500");
+
+    @Test
+    void startsWithTheConfiguredActiveModel() {
+        ScoringModels models = new ScoringModels(environment, List.of("balanced", "quality"), "quality");
+
+        assertEquals("quality", models.activeName());
+        assertEquals("quality", models.active().name());
+    }
+
+    @Test
+    void activateSwitchesTheModelUsedForRanking() {
+        ScoringModels models = new ScoringModels(environment, List.of("balanced", "quality"), "balanced");
+        ScoringModels.ScoringModel balanced = models.active();
+
+        models.activate("quality");
+
+        assertEquals("quality", models.activeName());
+        assertEquals(0.9, models.active().movies().weights().quality());
+
+        models.activate("balanced");
+
+        assertSame(balanced, models.active());
+    }
+
+    @Test
+    void unknownModelIsRejectedAndKeepsTheActiveOne() {
+        ScoringModels models = new ScoringModels(environment, List.of("balanced", "quality"), "balanced");
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> models.activate("fresh"));
+
+        assertTrue(e.getMessage().contains("fresh"));
+        assertTrue(e.getMessage().contains("[balanced, quality]"));
+        assertEquals("balanced", models.activeName());
+    }
+
+    @Test
+    void unknownActiveModelFailsAtStartup() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScoringModels(environment, List.of("balanced"), "quality"));
+    }
+
+    @Test
+    void unsetParametersKeepTheDomainDefaults() {
+        ScoringModels models = new ScoringModels(environment, List.of("balanced", "quality"), "balanced");
+
+        ScoringWeights quality = models.configs().get("quality").get(ScoringModels.MOVIES);
+        ScoringWeights balanced = models.configs().get("balanced").get(ScoringModels.MOVIES);
+
+        assertEquals(0.9, quality.quality());
+        assertEquals(500, quality.priorVotes());
+        assertEquals(balanced.priorMean(), quality.priorMean());
+        assertEquals(balanced.halfLifeDays(), quality.halfLifeDays());
+        assertEquals(ScoringModels.defaults().configs().get(ScoringModels.DEFAULT_MODEL),
+                models.configs().get("balanced"));
+    }
+}
@@ -0,0 +1,60 @@
+package junioranyafulu.DailyDigest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class TopKTests {
+
+    @Test
+    void returnsTheHighestScoresBestFirst() {
+        assertArrayEquals(new int[]{3, 1, 4}, TopK.select(new double[]{0.1, 0.8, 0.3, 0.9, 0.5}, 3));
+    }
+
+    @Test
+    void tiesGoToTheLowerIndex() {
+        assertArrayEquals(new int[]{1, 2, 4}, TopK.select(new double[]{0.2, 0.7, 0.7, 0.2, 0.7}, 3));
+        assertArrayEquals(new int[]{0, 1}, TopK.select(new double[]{0.5, 0.5, 0.5, 0.5}, 2));
+    }
+
+    @Test
+    void kLargerThanTheInputReturnsEveryIndex() {
+        assertArrayEquals(new int[]{2, 0, 1}, TopK.select(new double[]{0.4, 0.1, 0.9}, 10));
+    }
+
+    @Test
+    void kOfZeroOrLessReturnsNothing() {
+        double[] scores = {0.4, 0.1, 0.9};
+
+        assertArrayEquals(new int[0], TopK.select(scores, 0));
+        assertArrayEquals(new int[0], TopK.select(scores, -3));
+    }
+
+    @Test
+    void emptyInputReturnsNothing() {
+        assertArrayEquals(new int[0], TopK.select(new double[0], 5));
+    }
+
+    @Test
+    void matchesAStableDescendingSort() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            // Few distinct values so most rounds have ties
+            double[] scores = random.doubles(1 + random.nextInt(60)).map(d -> Math.floor(d * 8) / 8).toArray();
+            int k = random.nextInt(scores.length + 3);
+
+            int[] expected = IntStream.range(0, scores.length)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble((Integer i) -> scores[i]).reversed())
+                    .limit(k)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+
+            assertArrayEquals(expected, TopK.select(scores, k));
+        }
+    }
+}